@@ -0,0 +1,9 @@
+-- Configura a instância como réplica do serviço "mysql" (GTID auto-position)
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    GET_SOURCE_PUBLIC_KEY = 1,
+    SOURCE_AUTO_POSITION = 1;
+START REPLICA;
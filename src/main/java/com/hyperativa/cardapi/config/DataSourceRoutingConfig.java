@@ -0,0 +1,76 @@
+package com.hyperativa.cardapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Pools separados para primário e réplica, ativado com card.datasource.replica.enabled=true.
+ * Sem a propriedade, o DataSource único do Spring Boot continua sendo usado.
+ * Não se aplica quando o sharding está ativo (cada shard tem seu próprio pool).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression("${card.datasource.replica.enabled:false} and !${card.sharding.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("card.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${card.datasource.replica.url}") String url,
+            @Value("${card.datasource.replica.username}") String username,
+            @Value("${card.datasource.replica.password}") String password,
+            DataSourceProperties primaryProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primaryProperties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${card.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
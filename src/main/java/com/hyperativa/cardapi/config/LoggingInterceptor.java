@@ -2,50 +2,71 @@ package com.hyperativa.cardapi.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Access log: uma linha por requisição, ao final, no logger "access" (JSON assíncrono, ver logback-spring.xml).
+ * Erros (status >= 400 ou exceção) e requisições lentas são sempre registrados; as bem-sucedidas,
+ * na proporção {@code card.logging.access.sample-rate}. O requestId vem do MDC ({@link RequestIdFilter}).
+ */
 @Component
-@Slf4j
-public class LoggingInterceptor implements HandlerInterceptor {
+public class LoggingInterceptor implements AsyncHandlerInterceptor {
 
-    private static final String REQUEST_ID = "requestId";
-    private static final String START_TIME = "startTime";
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+    private static final String START_TIME = LoggingInterceptor.class.getName() + ".startTime";
 
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String requestId = UUID.randomUUID().toString();
-        request.setAttribute(REQUEST_ID, requestId);
-        request.setAttribute(START_TIME, System.currentTimeMillis());
-        
-        log.info("Incoming request - ID: {}, Method: {}, URI: {}, RemoteAddr: {}",
-                requestId, request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
-        
-        return true;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public LoggingInterceptor(@Value("${card.logging.access.sample-rate:1.0}") double sampleRate,
+                              @Value("${card.logging.access.slow-threshold:PT1S}") Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
     }
 
     @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
-                          @SuppressWarnings("unused") ModelAndView modelAndView) {
-        String requestId = (String) request.getAttribute(REQUEST_ID);
-        Long startTime = (Long) request.getAttribute(START_TIME);
-        long duration = System.currentTimeMillis() - (startTime != null ? startTime : 0);
-        
-        log.info("Outgoing response - ID: {}, Status: {}, Duration: {}ms",
-                requestId, response.getStatus(), duration);
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // No dispatch assíncrono o início continua sendo o do request original
+        if (request.getAttribute(START_TIME) == null) {
+            request.setAttribute(START_TIME, System.nanoTime());
+        }
+        return true;
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.isAsyncStarted() || !(request.getAttribute(START_TIME) instanceof Long startTime)) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - startTime;
+        int status = response.getStatus();
+        boolean failed = ex != null || status >= 400;
+        if (!failed && durationNanos < slowThresholdNanos && !sampled()) {
+            return;
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
         if (ex != null) {
-            String requestId = (String) request.getAttribute(REQUEST_ID);
-            log.error("Request failed - ID: {}, Error: {}", requestId, ex.getMessage(), ex);
+            ACCESS_LOG.error("{} {} {} {} {} {}", kv("method", request.getMethod()), kv("uri", request.getRequestURI()),
+                    kv("status", status), kv("durationMs", durationMs), kv("remoteAddr", request.getRemoteAddr()),
+                    kv("error", ex.getMessage()));
+        } else {
+            ACCESS_LOG.info("{} {} {} {} {}", kv("method", request.getMethod()), kv("uri", request.getRequestURI()),
+                    kv("status", status), kv("durationMs", durationMs), kv("remoteAddr", request.getRemoteAddr()));
         }
     }
-}
-
 
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
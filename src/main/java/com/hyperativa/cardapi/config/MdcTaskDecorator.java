@@ -0,0 +1,37 @@
+package com.hyperativa.cardapi.config;
+
+import io.opentelemetry.context.Context;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * Leva o MDC da thread que agenda a tarefa (ex.: requestId do upload) para a thread do @Async,
+ * junto com o contexto de tracing: o span do job fica como filho do span da requisição.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        Runnable traced = Context.current().wrap(runnable);
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            } else {
+                MDC.clear();
+            }
+            try {
+                traced.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.hyperativa.cardapi.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Pool R2DBC da consulta não bloqueante (card.r2dbc).
+ * <p>
+ * O ConnectionFactory não é exposto como bean: o Spring Boot desativa o DataSource JDBC quando
+ * encontra um, e a stack JPA continua sendo a principal. Apenas o DatabaseClient é publicado.
+ */
+@Configuration
+@ConditionalOnProperty(name = "card.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class ReactiveDataSourceConfig {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${card.r2dbc.url}") String url,
+            @Value("${card.r2dbc.username:}") String username,
+            @Value("${card.r2dbc.password:}") String password,
+            @Value("${card.r2dbc.pool.initial-size:2}") int initialSize,
+            @Value("${card.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
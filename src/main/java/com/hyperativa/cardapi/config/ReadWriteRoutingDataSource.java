@@ -0,0 +1,31 @@
+package com.hyperativa.cardapi.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Encaminha transações read-only para a réplica e todo o resto para o primário.
+ * Quando a réplica está atrasada além do limite, leituras também vão para o primário.
+ * <p>
+ * Deve ser envolvido por um LazyConnectionDataSourceProxy: a flag read-only da transação
+ * só é definida depois do begin, então a conexão real precisa ser obtida de forma tardia.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,59 @@
+package com.hyperativa.cardapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Consulta periodicamente o atraso de replicação e indica se a réplica pode receber leituras.
+ * Uma instância MySQL sem replicação configurada (ex.: réplica local de testes) é considerada em dia.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${card.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            List<Long> lags = replicaJdbcTemplate.query("SHOW REPLICA STATUS",
+                    (rs, rowNum) -> {
+                        long lag = rs.getLong("Seconds_Behind_Source");
+                        // NULL indica replicação parada
+                        return rs.wasNull() ? null : lag;
+                    });
+            if (lags.isEmpty()) {
+                usable = true;
+            } else {
+                Long lag = lags.get(0);
+                usable = lag != null && lag <= maxLagSeconds;
+                if (!usable) {
+                    log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lag, maxLagSeconds);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            usable = false;
+        }
+        if (usable && !replicaUsable) {
+            log.info("Replica caught up, routing reads to replica again");
+        }
+        replicaUsable = usable;
+    }
+}
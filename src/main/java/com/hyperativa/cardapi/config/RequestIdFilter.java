@@ -0,0 +1,65 @@
+package com.hyperativa.cardapi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Atribui um id a cada requisição (ou reaproveita o X-Request-Id recebido), devolve no header
+ * de resposta e o mantém no MDC ("requestId") enquanto a requisição é atendida.
+ * Primeiro filtro da cadeia: os logs do Spring Security também saem com o id.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // O dispatch assíncrono roda em outra thread e precisa do id no MDC de novo
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String requestId = (String) request.getAttribute(MDC_KEY);
+        if (requestId == null) {
+            String received = request.getHeader(HEADER);
+            requestId = received != null && VALID_ID.matcher(received).matches() ? received : newRequestId();
+            request.setAttribute(MDC_KEY, requestId);
+            response.setHeader(HEADER, requestId);
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * 64 bits aleatórios em hex (16 caracteres). ThreadLocalRandom não disputa o SecureRandom
+     * compartilhado do UUID.randomUUID(); o id serve para correlação, não precisa ser imprevisível.
+     */
+    static String newRequestId() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+}
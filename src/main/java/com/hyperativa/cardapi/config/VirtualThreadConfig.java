@@ -0,0 +1,41 @@
+package com.hyperativa.cardapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Modo virtual threads (card.threads.virtual.enabled=true, exige JDK 21+): requisições do Tomcat
+ * e jobs @Async de arquivo rodam em uma virtual thread por tarefa em vez dos pools fixos.
+ * O limite de concorrência no banco passa a ser o pool do Hikari.
+ */
+@Configuration
+@ConditionalOnProperty(name = "card.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException("card.threads.virtual.enabled=true requires JDK 21 or newer (running on "
+                    + Runtime.version() + ")");
+        }
+        log.info("Virtual thread mode enabled for Tomcat requests and @Async file jobs");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vt-"));
+    }
+
+    @Bean(name = "taskExecutor")
+    public Executor taskExecutor() {
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("file-processor-vt-"));
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hyperativa.cardapi.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Acesso às virtual threads (JDK 21+) por reflexão, mantendo o build em Java 17.
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Executor que cria uma virtual thread por tarefa, nomeadas prefix0, prefix1, ...
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require JDK 21 or newer (running on "
+                    + Runtime.version() + ")");
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create virtual thread executor", e);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -1,20 +1,61 @@
 package com.hyperativa.cardapi.config;
 
+import com.hyperativa.cardapi.ratelimit.ConcurrencyLimitInterceptor;
+import com.hyperativa.cardapi.ratelimit.ConcurrencyLimitProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    // A exportação (StreamingResponseBody) pode levar minutos; o padrão do Tomcat encerraria em 30s
+    @Value("${card.export.async-timeout:10m}")
+    private Duration asyncTimeout;
+
+    @Value("${card.export.async-threads:8}")
+    private int asyncThreads;
+
+    @Value("${card.export.async-queue-capacity:16}")
+    private int asyncQueueCapacity;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor);
+        registry.addInterceptor(concurrencyLimitInterceptor).addPathPatterns("/api/cards/**");
     }
-}
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+    }
 
+    /**
+     * Pool limitado que escreve as respostas assíncronas do MVC (exportação). Sem ele, o bean "taskExecutor"
+     * desativa o executor do Boot e o MVC cai no SimpleAsyncTaskExecutor, que cria uma thread por requisição.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncThreads);
+        executor.setMaxPoolSize(asyncThreads);
+        executor.setQueueCapacity(asyncQueueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.hyperativa.cardapi.controller;
+
+import com.hyperativa.cardapi.dto.BatchSummaryResponse;
+import com.hyperativa.cardapi.service.BatchSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/batches")
+@RequiredArgsConstructor
+@Slf4j
+public class BatchController {
+
+    private final BatchSummaryService batchSummaryService;
+
+    @GetMapping("/{batchNumber}")
+    @PreAuthorize("hasRole('CARD_QUERY')")
+    public ResponseEntity<BatchSummaryResponse> getBatchSummary(@PathVariable("batchNumber") String batchNumber) {
+        log.info("Received batch summary request for batch {}", batchNumber);
+        return batchSummaryService.getSummary(batchNumber)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
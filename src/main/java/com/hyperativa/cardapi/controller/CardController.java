@@ -4,16 +4,24 @@ import com.hyperativa.cardapi.dto.CardCheckRequest;
 import com.hyperativa.cardapi.dto.CardCheckResponse;
 import com.hyperativa.cardapi.dto.CardRegisterRequest;
 import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.ratelimit.RateLimiter;
+import com.hyperativa.cardapi.service.CardBatchService;
+import com.hyperativa.cardapi.service.CardExportService;
 import com.hyperativa.cardapi.service.CardService;
 import com.hyperativa.cardapi.service.FileProcessingService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Objects;
@@ -27,7 +35,10 @@ import java.util.concurrent.ExecutionException;
 public class CardController {
 
     private final CardService cardService;
+    private final CardBatchService cardBatchService;
     private final FileProcessingService fileProcessingService;
+    private final CardExportService cardExportService;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/register")
     @PreAuthorize("hasRole('CARD_REGISTER')")
@@ -41,6 +52,22 @@ public class CardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/register/batch")
+    @PreAuthorize("hasRole('CARD_REGISTER')")
+    public ResponseEntity<List<CardRegisterResponse>> registerCardsBatch(@RequestBody List<CardRegisterRequest> requests,
+                                                                         HttpServletRequest httpRequest) {
+        // Corpo "null" chega como lista nula
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Request must contain at least one card");
+        }
+        log.info("Received batch registration request with {} cards", requests.size());
+        // O rate limit do lote é por cartão, não por requisição
+        rateLimiter.acquireItems(httpRequest, requests.size());
+        // Itens inválidos não rejeitam o lote: o erro é informado no resultado do item
+        List<CardRegisterResponse> responses = cardBatchService.registerCards(requests);
+        return ResponseEntity.ok(responses);
+    }
+
     @PostMapping("/register/file")
     @PreAuthorize("hasRole('CARD_REGISTER')")
     public ResponseEntity<List<CardRegisterResponse>> registerCardsFromFile(
@@ -80,6 +107,27 @@ public class CardController {
         CardCheckResponse response = cardService.checkCard(request.getCardNumber());
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('CARD_EXPORT')")
+    public ResponseEntity<StreamingResponseBody> exportBatch(@RequestParam("batchNumber") String batchNumber,
+                                                             @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        if (batchNumber.isBlank()) {
+            throw new IllegalArgumentException("Batch number is required");
+        }
+        CardExportService.Format exportFormat = CardExportService.Format.of(format);
+        log.info("Received export request for batch {} ({})", batchNumber, exportFormat);
+
+        // O corpo é escrito fora da thread do request, página a página, enquanto o cliente lê
+        StreamingResponseBody body = outputStream -> cardExportService.export(batchNumber, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(batchNumber + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
 
 
@@ -0,0 +1,33 @@
+package com.hyperativa.cardapi.controller;
+
+import com.hyperativa.cardapi.dto.CardCheckRequest;
+import com.hyperativa.cardapi.dto.CardCheckResponse;
+import com.hyperativa.cardapi.service.ReactiveCardService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante não bloqueante de /api/cards/check. Roda sobre o MVC: o retorno Mono libera a thread
+ * do Tomcat enquanto a consulta R2DBC está em andamento (processamento assíncrono do Servlet).
+ */
+@RestController
+@RequestMapping("/api/cards")
+@ConditionalOnProperty(name = "card.sharding.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReactiveCardController {
+
+    private final ReactiveCardService reactiveCardService;
+
+    @PostMapping("/check/reactive")
+    @PreAuthorize("hasRole('CARD_QUERY')")
+    public Mono<CardCheckResponse> checkCard(@Valid @RequestBody CardCheckRequest request) {
+        return reactiveCardService.checkCard(request.getCardNumber());
+    }
+}
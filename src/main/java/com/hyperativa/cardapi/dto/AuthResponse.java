@@ -13,6 +13,7 @@ import java.util.List;
 @AllArgsConstructor
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private String username;
     private List<String> roles;
 }
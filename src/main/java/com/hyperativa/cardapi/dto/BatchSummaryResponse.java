@@ -0,0 +1,26 @@
+package com.hyperativa.cardapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSummaryResponse {
+    private String batchNumber;
+    private Integer declaredCount; // Quantidade declarada no header do arquivo
+    private Integer trailerCount; // Quantidade declarada no trailer do arquivo
+    private long insertedCount;
+    private long duplicateCount;
+    private long rejectedCount;
+    private boolean processing; // Arquivo do lote ainda em ingestão
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Long durationMillis;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package com.hyperativa.cardapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardExportItem {
+    private Long id;
+    private String cardNumber;
+    private Integer sequenceNumber;
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,7 @@ package com.hyperativa.cardapi.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
@@ -10,6 +11,7 @@ public class CardRegisterRequest {
     @Pattern(regexp = "^\\d+$", message = "Card number must contain only digits")
     private String cardNumber;
     
+    @Size(max = 10, message = "Batch number must have at most 10 characters")
     private String batchNumber;
     private Integer sequenceNumber;
 }
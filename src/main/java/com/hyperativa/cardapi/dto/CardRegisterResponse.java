@@ -15,6 +15,7 @@ public class CardRegisterResponse {
     private Integer lineNumber; // Número da linha no arquivo processado
     private Integer sequenceNumber; // Número de sequência no lote
     private Boolean alreadyExists; // Indica se o cartão já existia no banco
+    private String error; // Motivo da rejeição do item (cadastro em lote)
 }
 
 
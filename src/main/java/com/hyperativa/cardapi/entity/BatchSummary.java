@@ -0,0 +1,56 @@
+package com.hyperativa.cardapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Totais de um lote, atualizados incrementalmente pela ingestão (ver BatchSummaryRepositoryImpl).
+ * Os contadores acumulam todos os envios do lote; startedAt/completedAt referem-se ao último arquivo.
+ */
+@Entity
+// Esquema gerenciado pelas migrações Flyway em db/migration; mantenha os nomes em sincronia
+@Table(name = "batch_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSummary {
+
+    @Id
+    @Column(length = 10)
+    private String batchNumber;
+
+    // Quantidade de registros declarada no header do arquivo
+    @Column
+    private Integer declaredCount;
+
+    // Quantidade de registros declarada no trailer do arquivo
+    @Column
+    private Integer trailerCount;
+
+    @Column(nullable = false)
+    private long insertedCount;
+
+    @Column(nullable = false)
+    private long duplicateCount;
+
+    @Column(nullable = false)
+    private long rejectedCount;
+
+    @Column
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -11,9 +11,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "cards", indexes = {
-    @Index(name = "idx_card_hash", columnList = "cardHash")
-})
+// Esquema gerenciado pelas migrações Flyway em db/migration; mantenha os nomes em sincronia
+@Table(name = "cards",
+    uniqueConstraints = @UniqueConstraint(name = "uk_cards_card_hash", columnNames = "cardHash"),
+    indexes = @Index(name = "idx_cards_batch_number", columnList = "batchNumber, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,10 +22,10 @@ import java.time.LocalDateTime;
 public class Card {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 64)
+    @Column(nullable = false, length = 64)
     private String cardHash;
 
     @Column(nullable = false, columnDefinition = "TEXT")
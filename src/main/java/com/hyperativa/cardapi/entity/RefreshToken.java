@@ -0,0 +1,46 @@
+package com.hyperativa.cardapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token emitido no login; guarda só o SHA-256 (hex) do token entregue ao cliente.
+ * Cada uso revoga o token e emite outro (rotação).
+ */
+@Entity
+// Esquema gerenciado pelas migrações Flyway em db/migration; mantenha os nomes em sincronia
+@Table(name = "refresh_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "tokenHash"),
+    indexes = @Index(name = "idx_refresh_tokens_username", columnList = "username, expiresAt"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column
+    private LocalDateTime revokedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
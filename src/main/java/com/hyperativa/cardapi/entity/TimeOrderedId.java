@@ -0,0 +1,18 @@
+package com.hyperativa.cardapi.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gera o ID no lado da aplicação com {@link TimeOrderedIdGenerator}, permitindo
+ * que o Hibernate agrupe inserts em batch (o que IDENTITY impede).
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
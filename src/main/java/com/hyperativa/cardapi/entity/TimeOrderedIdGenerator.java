@@ -0,0 +1,74 @@
+package com.hyperativa.cardapi.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de IDs de 64 bits ordenados por tempo, únicos por nó:
+ * 41 bits de milissegundos desde {@link #EPOCH}, 10 bits de nó e 12 bits de sequência.
+ * <p>
+ * O nó vem da system property {@code card.node-id} ou da variável {@code CARD_NODE_ID} e deve ser
+ * distinto por instância. Sem ele a aplicação não sobe, a menos que {@code card.single-node}
+ * ({@code CARD_SINGLE_NODE}) declare uma única instância, que usa o nó 0.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long NODE_ID = resolveNodeId(System.getProperty("card.node-id", System.getenv("CARD_NODE_ID")),
+            System.getProperty("card.single-node", System.getenv("CARD_SINGLE_NODE")));
+
+    // Timestamp lógico (relativo ao EPOCH) << SEQUENCE_BITS | sequência, atualizado via CAS
+    private static final AtomicLong STATE = new AtomicLong();
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        // Configuração é global ao processo; nada a fazer por entidade
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    public static long nextId() {
+        while (true) {
+            long current = STATE.get();
+            long now = System.currentTimeMillis() - EPOCH;
+            // Se o milissegundo avançou, zera a sequência; senão incrementa (o estouro da
+            // sequência avança o timestamp lógico, o que também cobre relógio voltando)
+            long next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+            if (STATE.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    static long resolveNodeId(String configured, String singleNode) {
+        if (configured != null && !configured.isBlank()) {
+            long nodeId = Long.parseLong(configured.trim());
+            if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+                throw new IllegalArgumentException("card.node-id must be between 0 and " + MAX_NODE_ID);
+            }
+            return nodeId;
+        }
+        // Derivar do hostname permitiria dois nós iguais, e IDs repetidos entre instâncias
+        if (Boolean.parseBoolean(singleNode)) {
+            return 0L;
+        }
+        throw new IllegalStateException("card.node-id (CARD_NODE_ID) is required; "
+                + "set card.single-node=true (CARD_SINGLE_NODE) only when running a single instance");
+    }
+}
@@ -0,0 +1,44 @@
+package com.hyperativa.cardapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Usuário da API. As roles ficam em uma coluna separada por vírgulas (ex.: CARD_REGISTER,CARD_QUERY).
+ */
+@Entity
+// Esquema gerenciado pelas migrações Flyway em db/migration; mantenha os nomes em sincronia
+@Table(name = "users",
+    uniqueConstraints = @UniqueConstraint(name = "uk_users_username", columnNames = "username"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAccount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(nullable = false, length = 100)
+    private String passwordHash;
+
+    @Column(nullable = false)
+    private String roles;
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
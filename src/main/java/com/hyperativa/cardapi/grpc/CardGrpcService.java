@@ -0,0 +1,226 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.dto.CardCheckRequest;
+import com.hyperativa.cardapi.dto.CardCheckResponse;
+import com.hyperativa.cardapi.dto.CardRegisterRequest;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.grpc.proto.CardServiceGrpc;
+import com.hyperativa.cardapi.grpc.proto.CheckCardRequest;
+import com.hyperativa.cardapi.grpc.proto.CheckCardResponse;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardRequest;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardResponse;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardsRequest;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardsResponse;
+import com.hyperativa.cardapi.service.CardBatchService;
+import com.hyperativa.cardapi.service.CardService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação gRPC de /api/cards: reaproveita CardService e CardBatchService e as validações dos DTOs REST.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CardGrpcService extends CardServiceGrpc.CardServiceImplBase {
+
+    private final CardService cardService;
+    private final CardBatchService cardBatchService;
+    private final Validator validator;
+
+    @Override
+    public void registerCard(RegisterCardRequest request, StreamObserver<RegisterCardResponse> responseObserver) {
+        CardRegisterRequest registerRequest = toRegisterRequest(request);
+        String violations = violationsOf(registerRequest);
+        if (violations != null) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(violations).asRuntimeException());
+            return;
+        }
+
+        try {
+            CardRegisterResponse response = cardService.registerCard(
+                    registerRequest.getCardNumber(),
+                    registerRequest.getBatchNumber(),
+                    registerRequest.getSequenceNumber()
+            );
+            responseObserver.onNext(toRegisterResponse(response));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void registerCards(RegisterCardsRequest request, StreamObserver<RegisterCardsResponse> responseObserver) {
+        log.info("Received gRPC batch registration request with {} cards", request.getCardsCount());
+        try {
+            List<CardRegisterRequest> registerRequests = request.getCardsList().stream()
+                    .map(CardGrpcService::toRegisterRequest)
+                    .collect(Collectors.toList());
+            List<CardRegisterResponse> responses = cardBatchService.registerCards(registerRequests);
+
+            RegisterCardsResponse.Builder builder = RegisterCardsResponse.newBuilder();
+            responses.forEach(response -> builder.addResults(toRegisterResponse(response)));
+            responseObserver.onNext(builder.build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void checkCard(CheckCardRequest request, StreamObserver<CheckCardResponse> responseObserver) {
+        String violations = violationsOf(toCheckRequest(request));
+        if (violations != null) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(violations).asRuntimeException());
+            return;
+        }
+
+        try {
+            responseObserver.onNext(check(request));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    /**
+     * Consultas em pipeline com controle de fluxo: a próxima mensagem só é pedida ao cliente quando
+     * a resposta anterior cabe no buffer de saída, então um cliente lento não acumula respostas na memória.
+     * Erros de um item voltam na resposta do item; o stream segue aberto.
+     */
+    @Override
+    public StreamObserver<CheckCardRequest> checkCardStream(StreamObserver<CheckCardResponse> responseObserver) {
+        ServerCallStreamObserver<CheckCardResponse> serverObserver =
+                (ServerCallStreamObserver<CheckCardResponse>) responseObserver;
+        serverObserver.disableAutoRequest();
+        AtomicBoolean waitingForReady = new AtomicBoolean(true);
+        serverObserver.setOnReadyHandler(() -> {
+            if (serverObserver.isReady() && waitingForReady.compareAndSet(true, false)) {
+                serverObserver.request(1);
+            }
+        });
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(CheckCardRequest request) {
+                if (serverObserver.isCancelled()) {
+                    return;
+                }
+                serverObserver.onNext(checkItem(request));
+                if (serverObserver.isReady()) {
+                    serverObserver.request(1);
+                } else {
+                    waitingForReady.set(true);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("gRPC check stream cancelled by client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                serverObserver.onCompleted();
+            }
+        };
+    }
+
+    private CheckCardResponse checkItem(CheckCardRequest request) {
+        // Consulta inválida não encerra o stream: o erro vai na resposta do item
+        String violations = violationsOf(toCheckRequest(request));
+        if (violations != null) {
+            return CheckCardResponse.newBuilder()
+                    .setCorrelationId(request.getCorrelationId())
+                    .setError(violations)
+                    .build();
+        }
+        try {
+            return check(request);
+        } catch (Exception e) {
+            return CheckCardResponse.newBuilder()
+                    .setCorrelationId(request.getCorrelationId())
+                    .setError(toStatus(e).getDescription())
+                    .build();
+        }
+    }
+
+    private CheckCardResponse check(CheckCardRequest request) {
+        CardCheckResponse response = cardService.checkCard(request.getCardNumber());
+        CheckCardResponse.Builder builder = CheckCardResponse.newBuilder()
+                .setExists(response.isExists())
+                .setMessage(response.getMessage())
+                .setCorrelationId(request.getCorrelationId());
+        if (response.getCardId() != null) {
+            builder.setCardId(response.getCardId());
+        }
+        return builder.build();
+    }
+
+    private <T> String violationsOf(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static CardRegisterRequest toRegisterRequest(RegisterCardRequest request) {
+        CardRegisterRequest registerRequest = new CardRegisterRequest();
+        registerRequest.setCardNumber(request.getCardNumber());
+        // proto3 não tem null para string: vazio equivale a ausente
+        registerRequest.setBatchNumber(request.getBatchNumber().isEmpty() ? null : request.getBatchNumber());
+        registerRequest.setSequenceNumber(request.hasSequenceNumber() ? request.getSequenceNumber() : null);
+        return registerRequest;
+    }
+
+    // Mesmas regras do POST /api/cards/check
+    private static CardCheckRequest toCheckRequest(CheckCardRequest request) {
+        CardCheckRequest checkRequest = new CardCheckRequest();
+        checkRequest.setCardNumber(request.getCardNumber());
+        return checkRequest;
+    }
+
+    private static RegisterCardResponse toRegisterResponse(CardRegisterResponse response) {
+        RegisterCardResponse.Builder builder = RegisterCardResponse.newBuilder();
+        if (response.getId() != null) {
+            builder.setId(response.getId());
+        }
+        if (response.getMessage() != null) {
+            builder.setMessage(response.getMessage());
+        }
+        if (response.getAlreadyExists() != null) {
+            builder.setAlreadyExists(response.getAlreadyExists());
+        }
+        if (response.getSequenceNumber() != null) {
+            builder.setSequenceNumber(response.getSequenceNumber());
+        }
+        if (response.getError() != null) {
+            builder.setError(response.getError());
+        }
+        return builder.build();
+    }
+
+    private static Status toStatus(Exception e) {
+        if (e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        log.error("Unexpected error in gRPC call: {}", e.getMessage(), e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred");
+    }
+}
@@ -0,0 +1,77 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.grpc.proto.CardServiceGrpc;
+import com.hyperativa.cardapi.security.JwtPrincipal;
+import com.hyperativa.cardapi.security.JwtTokenProvider;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Autenticação JWT das chamadas gRPC: mesmo token e mesmas roles da API REST,
+ * lidos do metadata "authorization: Bearer &lt;token&gt;".
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    static final Context.Key<JwtPrincipal> PRINCIPAL = Context.key("principal");
+
+    private static final Map<String, String> REQUIRED_ROLES = Map.of(
+            CardServiceGrpc.getRegisterCardMethod().getFullMethodName(), "CARD_REGISTER",
+            CardServiceGrpc.getRegisterCardsMethod().getFullMethodName(), "CARD_REGISTER",
+            CardServiceGrpc.getCheckCardMethod().getFullMethodName(), "CARD_QUERY",
+            CardServiceGrpc.getCheckCardStreamMethod().getFullMethodName(), "CARD_QUERY"
+    );
+
+    private final JwtTokenProvider tokenProvider;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String methodName = call.getMethodDescriptor().getFullMethodName();
+        String token = getTokenFromMetadata(headers);
+
+        Optional<JwtPrincipal> principal = token != null ? tokenProvider.parse(token) : Optional.empty();
+        if (principal.isEmpty()) {
+            return reject(call, Status.UNAUTHENTICATED.withDescription("Missing or invalid token"));
+        }
+
+        String requiredRole = REQUIRED_ROLES.get(methodName);
+        if (requiredRole == null || !principal.get().hasRole(requiredRole)) {
+            log.warn("gRPC access denied - User: {}, Method: {}", principal.get().username(), methodName);
+            return reject(call, Status.PERMISSION_DENIED.withDescription("Access denied"));
+        }
+
+        Context context = Context.current().withValue(PRINCIPAL, principal.get());
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    private String getTokenFromMetadata(Metadata headers) {
+        String bearerToken = headers.get(AUTHORIZATION);
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, Status status) {
+        call.close(status, new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.grpc.proto.CardServiceGrpc;
+import com.hyperativa.cardapi.ratelimit.AdaptiveConcurrencyLimiter;
+import com.hyperativa.cardapi.ratelimit.ConcurrencyLimiters;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Aplica às chamadas unárias gRPC o mesmo {@link AdaptiveConcurrencyLimiter} do endpoint REST equivalente.
+ * A vaga é pedida quando o handler vai rodar (half-close) e liberada ao fim da chamada; sem vaga, a chamada
+ * é encerrada com UNAVAILABLE. O CheckCardStream fica de fora: a latência de um stream longo não é sinal de
+ * sobrecarga, e cada mensagem dele já passa pelo rate limit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GrpcConcurrencyLimitInterceptor implements ServerInterceptor {
+
+    private static final Map<String, String> ENDPOINTS = Map.of(
+            CardServiceGrpc.getRegisterCardMethod().getFullMethodName(), "registerCard",
+            CardServiceGrpc.getRegisterCardsMethod().getFullMethodName(), "registerCardsBatch",
+            CardServiceGrpc.getCheckCardMethod().getFullMethodName(), "checkCard"
+    );
+
+    private final ConcurrencyLimiters limiters;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String endpoint = ENDPOINTS.get(call.getMethodDescriptor().getFullMethodName());
+        if (endpoint == null || !limiters.isEnabled()) {
+            return next.startCall(call, headers);
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+
+            private long startNanos;
+            private boolean acquired;
+
+            @Override
+            public void onHalfClose() {
+                if (!limiter.tryAcquire()) {
+                    limiters.countRejected(endpoint);
+                    log.warn("Concurrency limit reached on gRPC {} (limit {}), shedding call", endpoint, limiter.getLimit());
+                    call.close(Status.UNAVAILABLE.withDescription("Service overloaded"), new Metadata());
+                    return;
+                }
+                acquired = true;
+                startNanos = System.nanoTime();
+                try {
+                    super.onHalfClose();
+                } catch (RuntimeException e) {
+                    release();
+                    throw e;
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                release();
+                super.onComplete();
+            }
+
+            @Override
+            public void onCancel() {
+                release();
+                super.onCancel();
+            }
+
+            private void release() {
+                if (acquired) {
+                    acquired = false;
+                    limiter.release(System.nanoTime() - startNanos);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.grpc.proto.RegisterCardsRequest;
+import com.hyperativa.cardapi.ratelimit.RateLimitExceededException;
+import com.hyperativa.cardapi.ratelimit.RateLimitProperties;
+import com.hyperativa.cardapi.ratelimit.RateLimiter;
+import com.hyperativa.cardapi.ratelimit.TokenBuckets;
+import com.hyperativa.cardapi.security.JwtPrincipal;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Aplica as regras de {@code card.rate-limit} (campo grpc-methods) às chamadas gRPC, nos mesmos baldes da API REST.
+ * Roda depois do {@link GrpcAuthInterceptor}: o balde do usuário é o do principal autenticado.
+ * <p>
+ * Cada mensagem recebida é cobrada (uma consulta do CheckCardStream custa um token; um RegisterCards com
+ * regra por item custa um token por cartão). Sem tokens, a chamada é encerrada com RESOURCE_EXHAUSTED e o
+ * trailer retry-after, e as mensagens seguintes são descartadas.
+ */
+@Component
+@RequiredArgsConstructor
+public class GrpcRateLimitInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> RETRY_AFTER = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        RateLimitProperties.Rule rule = rateLimiter.isEnabled()
+                ? rateLimiter.findGrpcRule(call.getMethodDescriptor().getFullMethodName())
+                : null;
+        if (rule == null) {
+            return next.startCall(call, headers);
+        }
+
+        JwtPrincipal principal = GrpcAuthInterceptor.PRINCIPAL.get();
+        String clientAddress = clientAddress(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+
+            private boolean closed;
+
+            @Override
+            public void onMessage(ReqT message) {
+                if (closed) {
+                    return;
+                }
+                long waitNanos;
+                try {
+                    waitNanos = rateLimiter.tryAcquire(rule, principal, clientAddress, tokens(rule, message));
+                } catch (RateLimitExceededException e) {
+                    closed = true;
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()), new Metadata());
+                    return;
+                }
+                if (waitNanos > 0) {
+                    closed = true;
+                    Metadata trailers = new Metadata();
+                    trailers.put(RETRY_AFTER, String.valueOf(TokenBuckets.retryAfterSeconds(waitNanos)));
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription("Too many requests"), trailers);
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                // Com a chamada já encerrada, o handler não pode mais responder
+                if (!closed) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    private static long tokens(RateLimitProperties.Rule rule, Object message) {
+        if (rule.isPerItem() && message instanceof RegisterCardsRequest request) {
+            return request.getCardsCount();
+        }
+        return 1L;
+    }
+
+    private static String clientAddress(SocketAddress address) {
+        if (address instanceof InetSocketAddress inetAddress) {
+            return inetAddress.getHostString();
+        }
+        return String.valueOf(address);
+    }
+}
@@ -0,0 +1,110 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.config.VirtualThreads;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor gRPC (card.grpc.port), iniciado e parado junto com o contexto do Spring.
+ * Os handlers fazem JDBC bloqueante, então rodam no executor do servidor e nunca no event loop do Netty:
+ * um pool fixo de {@code card.grpc.executor-threads} (o padrão do grpc-java é um cached pool sem limite)
+ * ou, no modo virtual threads, uma virtual thread por chamada.
+ */
+@Component
+@ConditionalOnProperty(name = "card.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final CardGrpcService cardGrpcService;
+    private final GrpcAuthInterceptor authInterceptor;
+    private final GrpcRateLimitInterceptor rateLimitInterceptor;
+    private final GrpcConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final int port;
+    private final long shutdownGraceSeconds;
+    private final int executorThreads;
+    private final boolean virtualThreads;
+
+    private Server server;
+    private ExecutorService executor;
+
+    public GrpcServer(CardGrpcService cardGrpcService,
+                      GrpcAuthInterceptor authInterceptor,
+                      GrpcRateLimitInterceptor rateLimitInterceptor,
+                      GrpcConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                      @Value("${card.grpc.port:9090}") int port,
+                      @Value("${card.grpc.shutdown-grace-seconds:10}") long shutdownGraceSeconds,
+                      @Value("${card.grpc.executor-threads:16}") int executorThreads,
+                      @Value("${card.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.cardGrpcService = cardGrpcService;
+        this.authInterceptor = authInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.port = port;
+        this.shutdownGraceSeconds = shutdownGraceSeconds;
+        this.executorThreads = executorThreads;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public synchronized void start() {
+        ServerBuilder<?> builder = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                // O último interceptor roda primeiro: autenticação, rate limit e limite de concorrência, como no REST
+                .addService(ServerInterceptors.intercept(cardGrpcService,
+                        concurrencyLimitInterceptor, rateLimitInterceptor, authInterceptor));
+        executor = virtualThreads
+                ? VirtualThreads.newThreadPerTaskExecutor("grpc-vt-")
+                : Executors.newFixedThreadPool(executorThreads, new CustomizableThreadFactory("grpc-"));
+        builder.executor(executor);
+
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        // Para de aceitar chamadas e espera as em andamento antes de derrubar o resto
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        executor.shutdown();
+        log.info("gRPC server stopped");
+        server = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public synchronized int getPort() {
+        return server != null ? server.getPort() : port;
+    }
+}
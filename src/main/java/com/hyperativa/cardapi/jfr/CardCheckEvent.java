@@ -0,0 +1,29 @@
+package com.hyperativa.cardapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Consulta de existência de um cartão ({@code CardService.checkCard}).
+ */
+@Name("com.hyperativa.card.Check")
+@Label("Card Check")
+@Category({"Card API", "Cards"})
+@Description("Existence check of a single card")
+@StackTrace(false)
+public class CardCheckEvent extends CardEvent {
+
+    @Label("Card Id")
+    public long cardId;
+
+    public void finish(Long cardId, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.cardId = cardId != null ? cardId : -1;
+            commit(outcome);
+        }
+    }
+}
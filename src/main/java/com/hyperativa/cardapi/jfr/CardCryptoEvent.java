@@ -0,0 +1,35 @@
+package com.hyperativa.cardapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Criptografia ou descriptografia de um número de cartão, incluindo a espera por um encryptor do pool.
+ */
+@Name("com.hyperativa.card.Crypto")
+@Label("Card Crypto")
+@Category({"Card API", "Crypto"})
+@Description("Encryption or decryption of a card number")
+@StackTrace(false)
+public class CardCryptoEvent extends CardEvent {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Pool Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long poolWait;
+
+    public void finish(String operation, long poolWaitNanos, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.poolWait = poolWaitNanos;
+            commit(outcome);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hyperativa.cardapi.jfr;
+
+import com.hyperativa.cardapi.config.RequestIdFilter;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.slf4j.MDC;
+
+/**
+ * Base dos eventos JFR da aplicação: resultado da operação e requestId (MDC) para ligar a gravação
+ * aos logs. Os eventos não registram stack trace e só preenchem campos quando uma gravação os
+ * habilita ({@code shouldCommit()}), então podem ficar ativos o tempo todo.
+ */
+abstract class CardEvent extends Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Request Id")
+    public String requestId;
+
+    void commit(String outcome) {
+        this.outcome = outcome;
+        this.requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        commit();
+    }
+}
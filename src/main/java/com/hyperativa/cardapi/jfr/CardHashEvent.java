@@ -0,0 +1,25 @@
+package com.hyperativa.cardapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SHA-256 do número do cartão ({@code EncryptionService.hashCardNumber}).
+ */
+@Name("com.hyperativa.card.Hash")
+@Label("Card Hash")
+@Category({"Card API", "Crypto"})
+@Description("SHA-256 of a card number")
+@StackTrace(false)
+public class CardHashEvent extends CardEvent {
+
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            commit(outcome);
+        }
+    }
+}
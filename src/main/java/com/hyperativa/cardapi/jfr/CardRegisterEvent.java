@@ -0,0 +1,40 @@
+package com.hyperativa.cardapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Cadastro de um cartão ({@code CardService.registerCard}), sem contar o commit da transação.
+ */
+@Name("com.hyperativa.card.Register")
+@Label("Card Register")
+@Category({"Card API", "Cards"})
+@Description("Registration of a single card")
+@StackTrace(false)
+public class CardRegisterEvent extends CardEvent {
+
+    @Label("Batch Number")
+    public String batchNumber;
+
+    @Label("Sequence Number")
+    public int sequenceNumber;
+
+    @Label("Card Id")
+    public long cardId;
+
+    /**
+     * Encerra o evento; só preenche os campos quando há gravação JFR interessada nele.
+     */
+    public void finish(String batchNumber, Integer sequenceNumber, Long cardId, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.batchNumber = batchNumber;
+            this.sequenceNumber = sequenceNumber != null ? sequenceNumber : -1;
+            this.cardId = cardId != null ? cardId : -1;
+            commit(outcome);
+        }
+    }
+}
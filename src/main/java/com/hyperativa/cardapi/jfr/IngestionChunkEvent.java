@@ -0,0 +1,42 @@
+package com.hyperativa.cardapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chunk de cartões gravado na ingestão: um insert em batch do cadastro em lote (source BATCH)
+ * ou um grupo de {@code card.batch.chunk-size} cartões do arquivo (source FILE).
+ */
+@Name("com.hyperativa.card.IngestionChunk")
+@Label("Ingestion Chunk")
+@Category({"Card API", "Ingestion"})
+@Description("Chunk of cards committed during ingestion")
+@StackTrace(false)
+public class IngestionChunkEvent extends CardEvent {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Batch Number")
+    public String batchNumber;
+
+    @Label("Cards")
+    public int cards;
+
+    @Label("Inserted")
+    public int inserted;
+
+    public void finish(String source, String batchNumber, int cards, int inserted, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.source = source;
+            this.batchNumber = batchNumber;
+            this.cards = cards;
+            this.inserted = inserted;
+            commit(outcome);
+        }
+    }
+}
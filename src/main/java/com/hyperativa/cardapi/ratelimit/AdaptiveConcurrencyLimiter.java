@@ -0,0 +1,70 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência observada (AIMD).
+ * <p>
+ * Cada requisição concluída é uma amostra: acima de {@code latencyThreshold} o limite cai
+ * multiplicativamente ({@code backoffRatio}); abaixo, e com o limite de fato em uso (mais da metade
+ * ocupada), sobe um. Requisições além do limite são recusadas na hora em vez de enfileiradas.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limiter configuration");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+    }
+
+    /**
+     * Reserva uma vaga se houver; quem recebe true deve chamar {@link #release(long)} ao terminar.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite com a latência da requisição.
+     */
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        synchronized (this) {
+            double current = limit;
+            if (latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, current * backoffRatio);
+            } else if (inFlightBefore * 2 >= current) {
+                limit = Math.min(maxLimit, current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
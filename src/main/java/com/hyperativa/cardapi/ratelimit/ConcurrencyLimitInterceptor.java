@@ -0,0 +1,71 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import com.hyperativa.cardapi.controller.CardController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Aplica um {@link AdaptiveConcurrencyLimiter} por endpoint do {@link CardController}.
+ * Sem vaga, responde 503 com Retry-After na hora. Em respostas assíncronas (exportação),
+ * a vaga é liberada ao fim do dispatch assíncrono.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimiters limiters;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!limiters.isEnabled() || request.getAttribute(PERMIT) != null
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !CardController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return true;
+        }
+
+        String endpoint = handlerMethod.getMethod().getName();
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        if (!limiter.tryAcquire()) {
+            limiters.countRejected(endpoint);
+            log.warn("Concurrency limit reached on {} (limit {}), shedding request", endpoint, limiter.getLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Service overloaded\"}");
+            return false;
+        }
+
+        request.setAttribute(PERMIT, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // Com o request assíncrono em andamento, a vaga só é liberada no afterCompletion do dispatch assíncrono
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        if (request.getAttribute(PERMIT) instanceof Permit permit) {
+            request.removeAttribute(PERMIT);
+            permit.limiter().release(System.nanoTime() - permit.startNanos());
+        }
+    }
+}
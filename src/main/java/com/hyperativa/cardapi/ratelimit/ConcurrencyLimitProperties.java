@@ -0,0 +1,38 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "card.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 2;
+
+    private int maxLimit = 200;
+
+    // Latência acima da qual uma requisição conta como sinal de sobrecarga
+    private Duration latencyThreshold = Duration.ofMillis(250);
+
+    // Fator aplicado ao limite a cada requisição lenta
+    private double backoffRatio = 0.9;
+
+    // Ajustes por endpoint, pelo nome do método no CardController (ex.: exportBatch)
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Endpoint {
+        private Integer initialLimit;
+        private Integer minLimit;
+        private Integer maxLimit;
+        private Duration latencyThreshold;
+    }
+}
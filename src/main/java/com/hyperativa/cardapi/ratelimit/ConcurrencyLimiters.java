@@ -0,0 +1,60 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Um {@link AdaptiveConcurrencyLimiter} por endpoint (nome do método no CardController), criado sob demanda
+ * com a configuração de {@code card.concurrency}. REST e gRPC usam o mesmo limitador para a mesma operação.
+ */
+@Component
+public class ConcurrencyLimiters {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiters(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public AdaptiveConcurrencyLimiter get(String endpoint) {
+        return limiters.computeIfAbsent(endpoint, this::createLimiter);
+    }
+
+    public void countRejected(String endpoint) {
+        meterRegistry.counter("http.concurrency.rejected", "endpoint", endpoint).increment();
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String endpoint) {
+        ConcurrencyLimitProperties.Endpoint overrides = properties.getEndpoints()
+                .getOrDefault(endpoint, new ConcurrencyLimitProperties.Endpoint());
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                valueOr(overrides.getInitialLimit(), properties.getInitialLimit()),
+                valueOr(overrides.getMinLimit(), properties.getMinLimit()),
+                valueOr(overrides.getMaxLimit(), properties.getMaxLimit()),
+                valueOr(overrides.getLatencyThreshold(), properties.getLatencyThreshold()).toNanos(),
+                properties.getBackoffRatio());
+
+        Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private static <T> T valueOr(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+}
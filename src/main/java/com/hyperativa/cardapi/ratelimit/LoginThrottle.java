@@ -0,0 +1,67 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limita tentativas de login por IP e por usuário antes de qualquer verificação BCrypt.
+ * <p>
+ * Um {@link TokenBucket} por chave, em {@link TokenBuckets} separados para usuários e IPs.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private final TokenBuckets byUsername;
+    private final TokenBuckets byIp;
+    private final long usernameCapacity;
+    private final double usernameRefillPerSecond;
+    private final long ipCapacity;
+    private final double ipRefillPerSecond;
+    private final Counter usernameRejections;
+    private final Counter ipRejections;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${card.login.throttle.username.capacity:5}") long usernameCapacity,
+                         @Value("${card.login.throttle.username.refill-per-minute:5}") double usernameRefillPerMinute,
+                         @Value("${card.login.throttle.ip.capacity:20}") long ipCapacity,
+                         @Value("${card.login.throttle.ip.refill-per-minute:20}") double ipRefillPerMinute,
+                         @Value("${card.login.throttle.max-keys:100000}") long maxKeys,
+                         @Value("${card.login.throttle.idle-expiry:PT15M}") Duration idleExpiry) {
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillPerSecond = usernameRefillPerMinute / 60.0;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerMinute / 60.0;
+        this.byUsername = new TokenBuckets(maxKeys, idleExpiry);
+        this.byIp = new TokenBuckets(maxKeys, idleExpiry);
+        this.usernameRejections = Counter.builder("auth.login.throttled").tag("scope", "username").register(meterRegistry);
+        this.ipRejections = Counter.builder("auth.login.throttled").tag("scope", "ip").register(meterRegistry);
+    }
+
+    /**
+     * Consome um token do IP e um do usuário, lançando {@link RateLimitExceededException} se algum estiver vazio.
+     */
+    public void acquire(String username, String clientIp) {
+        String ip = clientIp == null ? "unknown" : clientIp;
+        long ipWait = byIp.tryConsume(ip, ipCapacity, ipRefillPerSecond);
+        if (ipWait > 0) {
+            ipRejections.increment();
+            log.warn("Login throttled for IP: {}", ip);
+            throw new RateLimitExceededException("Too many login attempts", TokenBuckets.retryAfterSeconds(ipWait));
+        }
+
+        String user = username == null ? "" : username.toLowerCase(Locale.ROOT);
+        long userWait = byUsername.tryConsume(user, usernameCapacity, usernameRefillPerSecond);
+        if (userWait > 0) {
+            usernameRejections.increment();
+            log.warn("Login throttled for user: {}", username);
+            throw new RateLimitExceededException("Too many login attempts", TokenBuckets.retryAfterSeconds(userWait));
+        }
+    }
+}
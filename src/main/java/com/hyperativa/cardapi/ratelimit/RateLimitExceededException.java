@@ -0,0 +1,22 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * Limite de requisições excedido; vira 429 com o header Retry-After. Sem Retry-After (0), a requisição
+ * nunca caberia no limite e não adianta repeti-la.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public RateLimitExceededException(String message) {
+        this(message, 0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Limita requisições REST por usuário e por role com o {@link RateLimiter}, depois do {@code JwtAuthenticationFilter}.
+ * <p>
+ * A primeira regra de {@code card.rate-limit.rules} que casa com a requisição custa um token; regras por item
+ * (lotes) são cobradas pelo controller. Sem token, o balde é o do IP do cliente: atrás de proxy,
+ * {@code server.forward-headers-strategy} faz {@code getRemoteAddr()} refletir o X-Forwarded-For.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = rateLimiter.findRule(request);
+        if (rule != null && !rule.isPerItem()) {
+            long waitNanos = rateLimiter.tryAcquire(rule, rateLimiter.currentPrincipal(), request.getRemoteAddr(), 1);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TokenBuckets.retryAfterSeconds(waitNanos)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests\"}");
+    }
+}
@@ -0,0 +1,48 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "card.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Limite de memória: quantidade máxima de baldes (usuários + roles) somando todas as regras
+    private long maxBuckets = 100_000;
+
+    // Baldes sem uso por esse tempo são descartados
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    // Avaliadas em ordem; vale a primeira regra cujo padrão (Ant) e método casam com a requisição
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String name;
+        private String pattern;
+        // Vazio = qualquer método
+        private String method;
+        // Métodos gRPC cobertos pela regra, pelo nome simples (CheckCard) ou completo; o orçamento é o mesmo do REST
+        private List<String> grpcMethods = new ArrayList<>();
+        // Custo = quantidade de itens do lote (cobrado pelo controller/serviço gRPC) em vez de 1 por requisição
+        private boolean perItem;
+        // Balde de cada usuário (requisições sem token usam o IP)
+        private Limit perUser;
+        // Balde compartilhado por todos os usuários de cada role
+        private Map<String, Limit> perRole = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Limit {
+        private long capacity;
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,164 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import com.hyperativa.cardapi.security.JwtPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Map;
+
+/**
+ * Regras de {@code card.rate-limit} aplicadas sobre um único conjunto de {@link TokenBuckets}, usado pelo
+ * {@link RateLimitFilter} (REST) e pelo interceptor gRPC: as duas APIs dividem o mesmo orçamento.
+ * <p>
+ * Cada regra tem um balde por usuário (ou endereço do cliente, sem token) e um compartilhado por role.
+ * Basta um balde vazio para negar; os tokens já consumidos dos outros baldes não são devolvidos.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final TokenBuckets buckets;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = new TokenBuckets(properties.getMaxBuckets(), properties.getIdleExpiry());
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("http.ratelimit.buckets", buckets, TokenBuckets::size);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Primeira regra cujo padrão (Ant) e método casam com a requisição HTTP.
+     */
+    public RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            boolean methodMatches = rule.getMethod() == null || rule.getMethod().isBlank()
+                    || rule.getMethod().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && rule.getPattern() != null && pathMatcher.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Primeira regra que lista o método gRPC, pelo nome simples (CheckCard)
+     * ou completo (hyperativa.card.v1.CardService/CheckCard).
+     */
+    public RateLimitProperties.Rule findGrpcRule(String fullMethodName) {
+        String methodName = fullMethodName.substring(fullMethodName.lastIndexOf('/') + 1);
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (rule.getGrpcMethods().contains(methodName) || rule.getGrpcMethods().contains(fullMethodName)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cobra os itens de um lote na regra por item que casa com a requisição HTTP. O filtro não cobra essas
+     * regras, porque a quantidade de itens só é conhecida depois de ler o corpo.
+     *
+     * @throws RateLimitExceededException quando algum balde não tem tokens suficientes
+     */
+    public void acquireItems(HttpServletRequest request, long items) {
+        if (!isEnabled()) {
+            return;
+        }
+        RateLimitProperties.Rule rule = findRule(request);
+        if (rule == null || !rule.isPerItem()) {
+            return;
+        }
+        long waitNanos = tryAcquire(rule, currentPrincipal(), request.getRemoteAddr(), items);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException("Too many requests", TokenBuckets.retryAfterSeconds(waitNanos));
+        }
+    }
+
+    /**
+     * Consome {@code tokens} de cada balde da regra. Retorna 0 quando consumiu ou, quando negado, os nanos
+     * de espera do balde que negou. Sem principal, o balde do usuário é o do endereço do cliente.
+     *
+     * @throws RateLimitExceededException quando {@code tokens} passa da capacidade de algum balde da regra
+     */
+    public long tryAcquire(RateLimitProperties.Rule rule, JwtPrincipal principal, String clientAddress, long tokens) {
+        checkCapacity(rule, principal, tokens);
+        RateLimitProperties.Limit perUser = rule.getPerUser();
+        if (perUser != null) {
+            String client = principal != null ? "user:" + principal.username() : "ip:" + clientAddress;
+            long wait = buckets.tryConsume(rule.getName() + ":" + client,
+                    perUser.getCapacity(), perUser.getRefillPerSecond(), tokens);
+            if (wait > 0) {
+                reject(rule, "user", wait);
+                return wait;
+            }
+        }
+
+        if (principal != null) {
+            for (Map.Entry<String, RateLimitProperties.Limit> entry : rule.getPerRole().entrySet()) {
+                if (!principal.hasRole(entry.getKey())) {
+                    continue;
+                }
+                RateLimitProperties.Limit limit = entry.getValue();
+                long wait = buckets.tryConsume(rule.getName() + ":role:" + entry.getKey(),
+                        limit.getCapacity(), limit.getRefillPerSecond(), tokens);
+                if (wait > 0) {
+                    reject(rule, "role", wait);
+                    return wait;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Um custo acima da capacidade nunca seria atendido (nem com o balde cheio): recusa antes de consumir.
+     */
+    private void checkCapacity(RateLimitProperties.Rule rule, JwtPrincipal principal, long tokens) {
+        long capacity = Long.MAX_VALUE;
+        if (rule.getPerUser() != null) {
+            capacity = rule.getPerUser().getCapacity();
+        }
+        if (principal != null) {
+            for (Map.Entry<String, RateLimitProperties.Limit> entry : rule.getPerRole().entrySet()) {
+                if (principal.hasRole(entry.getKey())) {
+                    capacity = Math.min(capacity, entry.getValue().getCapacity());
+                }
+            }
+        }
+        if (tokens > capacity) {
+            meterRegistry.counter("http.ratelimit.rejected", "rule", rule.getName(), "scope", "capacity").increment();
+            throw new RateLimitExceededException("Request of " + tokens + " items exceeds the rate limit capacity of "
+                    + capacity + " for " + rule.getName());
+        }
+    }
+
+    /**
+     * Principal autenticado pelo {@code JwtAuthenticationFilter} na requisição HTTP corrente.
+     */
+    public JwtPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    private void reject(RateLimitProperties.Rule rule, String scope, long waitNanos) {
+        log.debug("Rate limit exceeded on rule: {} ({}), retry after {}s",
+                rule.getName(), scope, TokenBuckets.retryAfterSeconds(waitNanos));
+        meterRegistry.counter("http.ratelimit.rejected", "rule", rule.getName(), "scope", scope).increment();
+    }
+}
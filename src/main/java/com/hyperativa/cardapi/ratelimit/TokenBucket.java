@@ -0,0 +1,73 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket sem locks: o estado é um único instante (nanoTime) em que o balde estará cheio de novo,
+ * atualizado por CAS (equivalente ao GCRA). Cada consumo empurra esse instante em {@code 1 / refill};
+ * o consumo é negado quando ele passaria de {@code capacity} tokens à frente do relógio.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(long capacity, double refillPerSecond, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket needs capacity >= 1 and refill > 0");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstNanos = nanosPerToken * capacity;
+        this.clock = clock;
+        this.fullAt = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Tenta consumir um token. Retorna 0 quando consumiu ou, quando negado, os nanos até o próximo token.
+     */
+    public long tryConsume() {
+        return tryConsume(1);
+    }
+
+    /**
+     * Tenta consumir {@code tokens} de uma vez (tudo ou nada).
+     * Retorna 0 quando consumiu ou, quando negado, os nanos até haver tokens suficientes.
+     *
+     * @throws IllegalArgumentException quando {@code tokens} passa da capacidade, que nunca seria atendido
+     */
+    public long tryConsume(long tokens) {
+        if (tokens > capacity) {
+            throw new IllegalArgumentException("Cost of " + tokens + " tokens exceeds bucket capacity " + capacity);
+        }
+        long cost = nanosPerToken * Math.max(1L, tokens);
+        while (true) {
+            long now = clock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + cost;
+            long ahead = next - now;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Balde cheio (sem consumo pendente de reposição): pode ser descartado sem mudar o comportamento.
+     */
+    public boolean isFull() {
+        return fullAt.get() - clock.getAsLong() <= 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conjunto de {@link TokenBucket} por chave com memória limitada: no máximo {@code maxBuckets} baldes,
+ * e um balde sem uso por {@code idleExpiry} é descartado. Com idleExpiry maior que o tempo de
+ * reposição completa, o balde descartado já estaria cheio e recriá-lo não muda o limite.
+ */
+public class TokenBuckets {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public TokenBuckets(long maxBuckets, Duration idleExpiry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    /**
+     * Consome um token do balde da chave (criado cheio se ainda não existir).
+     * Retorna 0 quando consumiu ou, quando negado, os nanos até o próximo token.
+     */
+    public long tryConsume(String key, long capacity, double refillPerSecond) {
+        return tryConsume(key, capacity, refillPerSecond, 1);
+    }
+
+    /**
+     * Como {@link #tryConsume(String, long, double)}, consumindo {@code tokens} de uma vez.
+     */
+    public long tryConsume(String key, long capacity, double refillPerSecond, long tokens) {
+        return buckets.get(key, ignored -> new TokenBucket(capacity, refillPerSecond)).tryConsume(tokens);
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Converte a espera em nanos para o valor do header Retry-After (segundos, arredondado para cima).
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,9 @@
+package com.hyperativa.cardapi.repository;
+
+import com.hyperativa.cardapi.entity.BatchSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchSummaryRepository extends JpaRepository<BatchSummary, String>, BatchSummaryRepositoryCustom {
+}
@@ -0,0 +1,19 @@
+package com.hyperativa.cardapi.repository;
+
+public interface BatchSummaryRepositoryCustom {
+
+    /**
+     * Marca o início da ingestão de um arquivo do lote, criando a linha se necessário.
+     */
+    void startBatch(String batchNumber, Integer declaredCount);
+
+    /**
+     * Soma os contadores no banco (UPDATE relativo), seguro para ingestões concorrentes do mesmo lote.
+     */
+    void addCounts(String batchNumber, long inserted, long duplicates, long rejected);
+
+    /**
+     * Marca o fim da ingestão do arquivo, com a quantidade declarada no trailer.
+     */
+    void completeBatch(String batchNumber, Integer trailerCount);
+}
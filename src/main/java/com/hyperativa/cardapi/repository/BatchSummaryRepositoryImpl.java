@@ -0,0 +1,49 @@
+package com.hyperativa.cardapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class BatchSummaryRepositoryImpl implements BatchSummaryRepositoryCustom {
+
+    // Reenvio do arquivo reinicia o período (startedAt/completedAt); contadores seguem acumulando
+    private static final String START_BATCH_SQL =
+            "INSERT INTO batch_summaries (batch_number, declared_count, inserted_count, duplicate_count, rejected_count, " +
+            "started_at, created_at, updated_at) VALUES (?, ?, 0, 0, 0, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE declared_count = COALESCE(VALUES(declared_count), declared_count), " +
+            "started_at = VALUES(started_at), completed_at = NULL, updated_at = VALUES(updated_at)";
+
+    private static final String ADD_COUNTS_SQL =
+            "INSERT INTO batch_summaries (batch_number, inserted_count, duplicate_count, rejected_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE inserted_count = inserted_count + VALUES(inserted_count), " +
+            "duplicate_count = duplicate_count + VALUES(duplicate_count), " +
+            "rejected_count = rejected_count + VALUES(rejected_count), updated_at = VALUES(updated_at)";
+
+    private static final String COMPLETE_BATCH_SQL =
+            "UPDATE batch_summaries SET trailer_count = COALESCE(?, trailer_count), completed_at = ?, updated_at = ? " +
+            "WHERE batch_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void startBatch(String batchNumber, Integer declaredCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(START_BATCH_SQL, batchNumber, declaredCount, now, now, now);
+    }
+
+    @Override
+    public void addCounts(String batchNumber, long inserted, long duplicates, long rejected) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(ADD_COUNTS_SQL, batchNumber, inserted, duplicates, rejected, now, now);
+    }
+
+    @Override
+    public void completeBatch(String batchNumber, Integer trailerCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(COMPLETE_BATCH_SQL, trailerCount, now, now, batchNumber);
+    }
+}
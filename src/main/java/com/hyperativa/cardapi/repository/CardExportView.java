@@ -0,0 +1,13 @@
+package com.hyperativa.cardapi.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção usada na exportação por lote: só as colunas que vão para o arquivo.
+ */
+public interface CardExportView {
+    Long getId();
+    String getEncryptedCardNumber();
+    Integer getSequenceNumber();
+    LocalDateTime getCreatedAt();
+}
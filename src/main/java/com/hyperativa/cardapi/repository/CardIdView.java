@@ -0,0 +1,10 @@
+package com.hyperativa.cardapi.repository;
+
+/**
+ * Projeção com apenas hash e ID do cartão, usada nas buscas em lote
+ * sem carregar a entidade completa.
+ */
+public interface CardIdView {
+    String getCardHash();
+    Long getId();
+}
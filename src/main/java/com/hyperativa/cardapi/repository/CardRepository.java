@@ -1,15 +1,33 @@
 package com.hyperativa.cardapi.repository;
 
 import com.hyperativa.cardapi.entity.Card;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CardRepository extends JpaRepository<Card, Long> {
+public interface CardRepository extends JpaRepository<Card, Long>, CardRepositoryCustom {
     Optional<Card> findByCardHash(String cardHash);
     boolean existsByCardHash(String cardHash);
-}
 
+    // Seleciona apenas o ID: respondido pelo índice (cardHash, id), sem criar entidade
+    @Query("select c.id from Card c where c.cardHash = :cardHash")
+    Optional<Long> findIdByCardHash(@Param("cardHash") String cardHash);
+
+    @Query("select c.cardHash as cardHash, c.id as id from Card c where c.cardHash in :cardHashes")
+    List<CardIdView> findIdsByCardHashIn(@Param("cardHashes") Collection<String> cardHashes);
 
+    // Paginação por keyset (id > último id lido), sem OFFSET: usa o índice (batchNumber, id).
+    // Passe sempre PageRequest.of(0, tamanho); só o limite é aplicado
+    @Query("select c.id as id, c.encryptedCardNumber as encryptedCardNumber, c.sequenceNumber as sequenceNumber, "
+            + "c.createdAt as createdAt from Card c where c.batchNumber = :batchNumber and c.id > :afterId order by c.id")
+    List<CardExportView> findBatchPageAfter(@Param("batchNumber") String batchNumber,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package com.hyperativa.cardapi.repository;
+
+import com.hyperativa.cardapi.entity.Card;
+
+public interface CardRepositoryCustom {
+
+    /**
+     * Insere o cartão caso o hash ainda não exista, em um único statement atômico.
+     * Retorna o ID do cartão (novo ou existente) e se a linha foi inserida.
+     */
+    CardUpsertResult insertIfAbsent(Card card);
+}
@@ -0,0 +1,72 @@
+package com.hyperativa.cardapi.repository;
+
+import com.hyperativa.cardapi.entity.Card;
+import com.hyperativa.cardapi.entity.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Slf4j
+public class CardRepositoryImpl implements CardRepositoryCustom {
+
+    // Com useAffectedRows=true na URL JDBC, o MySQL retorna 1 para insert e 0 para duplicado.
+    // O driver não devolve chave gerada quando nenhuma linha é afetada, então o ID existente
+    // é lido pelo card_hash na mesma transação. O duplicado também pode ser de id (PK).
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO cards (id, card_hash, encrypted_card_number, batch_number, sequence_number, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String SELECT_ID_BY_HASH_SQL = "SELECT id FROM cards WHERE card_hash = ?";
+
+    private static final int MAX_ID_COLLISION_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public CardUpsertResult insertIfAbsent(Card card) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long id = card.getId() != null ? card.getId() : TimeOrderedIdGenerator.nextId();
+
+        for (int attempt = 1; ; attempt++) {
+            if (insert(card, id, now) == 1) {
+                return new CardUpsertResult(id, true);
+            }
+            List<Long> existingIds = jdbcTemplate.queryForList(SELECT_ID_BY_HASH_SQL, Long.class, card.getCardHash());
+            if (!existingIds.isEmpty()) {
+                return new CardUpsertResult(existingIds.get(0), false);
+            }
+            // Conflito no id (outro nó gerou o mesmo), não no card_hash: o cartão não foi gravado
+            if (attempt == MAX_ID_COLLISION_ATTEMPTS) {
+                throw new IllegalStateException("Card id collision persisted after " + attempt + " attempts");
+            }
+            log.warn("Card id {} collided with an existing card, retrying with a new id", id);
+            id = TimeOrderedIdGenerator.nextId();
+        }
+    }
+
+    private int insert(Card card, long id, Timestamp now) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_IF_ABSENT_SQL);
+            ps.setLong(1, id);
+            ps.setString(2, card.getCardHash());
+            ps.setString(3, card.getEncryptedCardNumber());
+            ps.setString(4, card.getBatchNumber());
+            if (card.getSequenceNumber() != null) {
+                ps.setInt(5, card.getSequenceNumber());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            return ps;
+        });
+    }
+}
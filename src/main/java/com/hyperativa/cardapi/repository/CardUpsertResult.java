@@ -0,0 +1,7 @@
+package com.hyperativa.cardapi.repository;
+
+/**
+ * Resultado de um insert-if-absent: o ID do cartão e se ele foi criado agora.
+ */
+public record CardUpsertResult(Long id, boolean inserted) {
+}
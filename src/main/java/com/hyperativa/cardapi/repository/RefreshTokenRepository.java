@@ -0,0 +1,31 @@
+package com.hyperativa.cardapi.repository;
+
+import com.hyperativa.cardapi.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Revogação condicional: só um de dois usos concorrentes do mesmo token recebe 1
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.tokenHash = :tokenHash "
+            + "and r.revokedAt is null and r.expiresAt > :now")
+    int revokeIfActive(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.username = :username and r.revokedAt is null")
+    int revokeAllByUsername(@Param("username") String username, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.username = :username and r.expiresAt < :now")
+    int deleteExpiredByUsername(@Param("username") String username, @Param("now") LocalDateTime now);
+}
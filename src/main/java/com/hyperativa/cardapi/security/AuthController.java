@@ -2,12 +2,16 @@ package com.hyperativa.cardapi.security;
 
 import com.hyperativa.cardapi.dto.AuthRequest;
 import com.hyperativa.cardapi.dto.AuthResponse;
+import com.hyperativa.cardapi.dto.RefreshRequest;
+import com.hyperativa.cardapi.ratelimit.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,37 +25,69 @@ import java.util.List;
 @Slf4j
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
+    private final LoginService loginService;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final UserService userService;
 
     @PostMapping("/login")
-    public AuthResponse login(@RequestBody AuthRequest request) {
-        log.info("Login attempt for user: {}", request.getUsername());
+    public AuthResponse login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        log.debug("Login attempt for user: {}", request.getUsername());
         
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-            );
+            Authentication authentication = loginService.authenticate(
+                    request.getUsername(), request.getPassword(), httpRequest.getRemoteAddr());
 
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            List<String> roles = userDetails.getAuthorities().stream()
-                    .map(authority -> authority.getAuthority().replace("ROLE_", ""))
-                    .toList();
-
-            String token = tokenProvider.generateToken(userDetails.getUsername(), roles);
-            
-            log.info("Login successful for user: {} with roles: {}", userDetails.getUsername(), roles);
-
-            return AuthResponse.builder()
-                    .token(token)
-                    .username(userDetails.getUsername())
-                    .roles(roles)
-                    .build();
-        } catch (Exception e) {
+            AuthResponse response = issueTokens(userDetails, refreshTokenService.issue(userDetails.getUsername()));
+
+            log.info("Login successful for user: {} with roles: {}", userDetails.getUsername(), response.getRoles());
+
+            return response;
+        } catch (AuthenticationException | RateLimitExceededException | LoginUnavailableException e) {
+            // Recusas esperadas (senha errada, throttle, pool cheio) sem stack trace: numa rajada de força bruta
+            // cada tentativa vira uma linha, não um stack trace
+            log.warn("Login rejected for user: {} ({})", request.getUsername(), e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
             log.error("Login failed for user: {}", request.getUsername(), e);
             throw e;
         }
     }
+
+    /**
+     * Troca um refresh token válido por um novo access token (e um novo refresh token), sem verificar senha.
+     */
+    @PostMapping("/refresh")
+    public AuthResponse refresh(@RequestBody RefreshRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        UserDetails userDetails;
+        try {
+            userDetails = userService.loadUserByUsername(rotation.username());
+        } catch (UsernameNotFoundException e) {
+            throw new BadCredentialsException("User no longer exists: " + rotation.username());
+        }
+        if (!userDetails.isEnabled()) {
+            throw new BadCredentialsException("User disabled: " + rotation.username());
+        }
+
+        log.debug("Access token refreshed for user: {}", rotation.username());
+        return issueTokens(userDetails, rotation.refreshToken());
+    }
+
+    private AuthResponse issueTokens(UserDetails userDetails, String refreshToken) {
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(authority -> authority.getAuthority().replace("ROLE_", ""))
+                .toList();
+
+        return AuthResponse.builder()
+                .token(tokenProvider.generateToken(userDetails.getUsername(), roles))
+                .refreshToken(refreshToken)
+                .username(userDetails.getUsername())
+                .roles(roles)
+                .build();
+    }
 }
 
 
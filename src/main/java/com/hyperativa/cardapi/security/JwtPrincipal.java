@@ -0,0 +1,38 @@
+package com.hyperativa.cardapi.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Token JWT já verificado: usuário, roles e authorities prontas para o SecurityContext.
+ * Imutável, criado uma única vez por token e reaproveitado no restante do request.
+ */
+public record JwtPrincipal(String username, List<String> roles, List<GrantedAuthority> authorities, Instant expiresAt)
+        implements AuthenticatedPrincipal {
+
+    public JwtPrincipal {
+        roles = List.copyOf(roles);
+        authorities = List.copyOf(authorities);
+    }
+
+    public static JwtPrincipal of(String username, List<String> roles, Instant expiresAt) {
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new JwtPrincipal(username, roles, authorities, expiresAt);
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
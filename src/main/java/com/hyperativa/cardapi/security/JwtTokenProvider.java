@@ -1,29 +1,73 @@
 package com.hyperativa.cardapi.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    // Tokens deste serviço têm poucas centenas de bytes; acima disso nem tenta decodificar
+    private static final int MAX_TOKEN_LENGTH = 4096;
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // Chave e parser são imutáveis e thread-safe: criados uma vez, na inicialização
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // Tokens já verificados, pela chave SHA-256 do token (o token em si não fica em memória).
+    // Cada entrada expira no exp do token ou em maxTtl, o que vier primeiro
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+
+    public JwtTokenProvider(String jwtSecret, long jwtExpiration) {
+        this(jwtSecret, jwtExpiration, 10_000, Duration.ofHours(1));
+    }
+
+    @Autowired
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                            @Value("${jwt.cache.max-ttl:PT1H}") Duration cacheMaxTtl) {
+        this.jwtExpiration = jwtExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheMaxTtl))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions com a tag cache=jwt.tokens
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.tokens");
     }
 
     public String generateToken(String username, List<String> roles) {
@@ -35,10 +79,37 @@ public class JwtTokenProvider {
                 .claim("roles", roles)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifica assinatura e expiração uma única vez e devolve o principal do token.
+     * Tokens malformados são descartados antes do parser, sem exceções.
+     */
+    public Optional<JwtPrincipal> parse(String token) {
+        if (!isWellFormed(token)) {
+            return Optional.empty();
+        }
+
+        String cacheKey = digest(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            JwtPrincipal principal = toPrincipal(claims);
+            // Só tokens válidos entram no cache: tokens inválidos não ocupam espaço
+            verifiedTokens.put(cacheKey, principal);
+            return Optional.of(principal);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Assinatura inválida ou token expirado
+            return Optional.empty();
+        }
+    }
+
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
@@ -53,31 +124,75 @@ public class JwtTokenProvider {
     }
 
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = parser.parseClaimsJws(token).getBody();
         return claimsResolver.apply(claims);
     }
 
-    private Claims getAllClaimsFromToken(String token) {
-        Jws<Claims> claimsJws = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-        return claimsJws.getBody();
+    public Boolean validateToken(String token) {
+        // O parser já rejeita tokens expirados
+        return parse(token).isPresent();
     }
 
-    public Boolean validateToken(String token) {
+    @SuppressWarnings("unchecked")
+    private static JwtPrincipal toPrincipal(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        Date expiration = claims.getExpiration();
+        return JwtPrincipal.of(claims.getSubject(),
+                roles != null ? roles : List.of(),
+                expiration != null ? expiration.toInstant() : null);
+    }
+
+    private static String digest(String token) {
         try {
-            getAllClaimsFromToken(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
-    }
-}
+    private static final class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            if (principal.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiryMillis = principal.expiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(untilExpiryMillis).toNanos()));
+        }
 
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    // header.payload.signature em base64url
+    private static boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dots = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                dots++;
+            } else if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return dots == 2;
+    }
+}
@@ -0,0 +1,118 @@
+package com.hyperativa.cardapi.security;
+
+import com.hyperativa.cardapi.ratelimit.LoginThrottle;
+import com.hyperativa.cardapi.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verificação de senha (BCrypt) fora das threads de requisição.
+ * <p>
+ * O custo de CPU dos logins fica preso a um pool pequeno e com fila limitada: uma rajada de logins
+ * espera ou é recusada (503) em vez de disputar CPU com /api/cards/check. Antes do pool, o
+ * {@link LoginThrottle} corta tentativas repetidas por IP e por usuário (429).
+ */
+@Service
+@Slf4j
+public class LoginService implements DisposableBean {
+
+    private final AuthenticationManager authenticationManager;
+    private final LoginThrottle loginThrottle;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public LoginService(AuthenticationManager authenticationManager,
+                        LoginThrottle loginThrottle,
+                        MeterRegistry meterRegistry,
+                        @Value("${card.login.executor.threads:2}") int threads,
+                        @Value("${card.login.executor.queue-capacity:64}") int queueCapacity,
+                        @Value("${card.login.timeout:PT5S}") Duration timeout) {
+        this.authenticationManager = authenticationManager;
+        this.loginThrottle = loginThrottle;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "login-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // executor.queued / executor.active / executor.completed com name=login
+        new ExecutorServiceMetrics(executor, "login", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Autentica usuário e senha no pool de login, aguardando no máximo {@code card.login.timeout}.
+     */
+    public Authentication authenticate(String username, String password, String clientIp) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            loginThrottle.acquire(username, clientIp);
+            Authentication authentication = verify(new UsernamePasswordAuthenticationToken(username, password));
+            outcome = "success";
+            return authentication;
+        } catch (RateLimitExceededException e) {
+            outcome = "throttled";
+            throw e;
+        } catch (LoginUnavailableException e) {
+            outcome = "unavailable";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.login", "outcome", outcome));
+        }
+    }
+
+    private Authentication verify(UsernamePasswordAuthenticationToken credentials) {
+        Future<Authentication> future;
+        try {
+            future = executor.submit(() -> authenticationManager.authenticate(credentials));
+        } catch (RejectedExecutionException e) {
+            log.warn("Login executor saturated, rejecting login for user: {}", credentials.getName());
+            throw new LoginUnavailableException("Login service is busy");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Login timed out for user: {}", credentials.getName());
+            throw new LoginUnavailableException("Login service is busy");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginUnavailableException("Login interrupted");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package com.hyperativa.cardapi.security;
+
+/**
+ * Executor de login saturado ou lento demais; vira 503 com o header Retry-After.
+ */
+public class LoginUnavailableException extends RuntimeException {
+
+    public LoginUnavailableException(String message) {
+        super(message);
+    }
+}
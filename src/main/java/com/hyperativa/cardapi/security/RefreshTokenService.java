@@ -0,0 +1,101 @@
+package com.hyperativa.cardapi.security;
+
+import com.hyperativa.cardapi.entity.RefreshToken;
+import com.hyperativa.cardapi.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Emissão e rotação de refresh tokens.
+ * <p>
+ * O refresh custa um SHA-256 e um UPDATE condicional, sem BCrypt. Cada token vale uma vez: o uso
+ * revoga o token e emite outro. Reapresentar um token já revogado indica vazamento e revoga
+ * todos os tokens do usuário.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    public record Rotation(String username, String refreshToken) {
+    }
+
+    /**
+     * Emite um refresh token para o usuário, descartando os já expirados dele.
+     */
+    @Transactional
+    public String issue(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.deleteExpiredByUsername(username, now);
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .username(username)
+                .expiresAt(now.plus(Duration.ofMillis(refreshExpirationMs)))
+                .build());
+        return token;
+    }
+
+    /**
+     * Consome o refresh token e emite o próximo; lança {@link BadCredentialsException} se inválido.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        String tokenHash = hash(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (refreshTokenRepository.revokeIfActive(tokenHash, now) == 0) {
+            refreshTokenRepository.findByTokenHash(tokenHash)
+                    .filter(token -> token.getRevokedAt() != null)
+                    .ifPresent(token -> {
+                        log.warn("Revoked refresh token reused for user: {}, revoking all sessions", token.getUsername());
+                        refreshTokenRepository.revokeAllByUsername(token.getUsername(), now);
+                    });
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        String username = refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(RefreshToken::getUsername)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        return new Rotation(username, issue(username));
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
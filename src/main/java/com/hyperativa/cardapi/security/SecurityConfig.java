@@ -1,6 +1,11 @@
 package com.hyperativa.cardapi.security;
 
+import com.hyperativa.cardapi.ratelimit.RateLimitFilter;
+import com.hyperativa.cardapi.ratelimit.RateLimitProperties;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -12,14 +17,22 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    // Porta do actuator (management.server.port); o prometheus só é público nela, nunca na porta da API
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -27,17 +40,32 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // O dispatch assíncrono (retornos Mono) reaproveita a autorização já feita no request original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers(onManagementPort("/actuator/prometheus")).permitAll()
                         .requestMatchers("/api/cards/register").hasRole("CARD_REGISTER")
                         .requestMatchers("/api/cards/register/file").hasRole("CARD_REGISTER")
+                        .requestMatchers("/api/cards/register/batch").hasRole("CARD_REGISTER")
                         .requestMatchers("/api/cards/check").hasRole("CARD_QUERY")
+                        .requestMatchers("/api/cards/check/reactive").hasRole("CARD_QUERY")
+                        .requestMatchers("/api/cards/export").hasRole("CARD_EXPORT")
+                        .requestMatchers("/api/batches/**").hasRole("CARD_QUERY")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Depois da autenticação, para limitar por usuário e role do token
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    private RequestMatcher onManagementPort(String pattern) {
+        AntPathRequestMatcher pathMatcher = new AntPathRequestMatcher(pattern);
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort && pathMatcher.matches(request);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
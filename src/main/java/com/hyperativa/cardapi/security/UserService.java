@@ -1,97 +1,94 @@
 package com.hyperativa.cardapi.security;
 
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hyperativa.cardapi.entity.UserAccount;
+import com.hyperativa.cardapi.repository.UserAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * Usuários persistidos na tabela users, com cache das informações por {@code card.users.cache.ttl}.
+ * Alterações de senha ou roles no banco passam a valer em no máximo esse intervalo.
+ */
 @Service
-@RequiredArgsConstructor
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, MeterBinder {
+
+    private final UserAccountRepository userAccountRepository;
 
-    private final PasswordEncoder passwordEncoder;
-    
     // Armazena apenas as informações do usuário, não o UserDetails completo
-    private final Map<String, UserInfo> usersInfo = new HashMap<>();
+    private final Cache<String, UserInfo> usersInfo;
 
-    @PostConstruct
-    public void init() {
-        initializeUsers();
+    public UserService(UserAccountRepository userAccountRepository,
+                       @Value("${card.users.cache.max-size:10000}") long cacheMaxSize,
+                       @Value("${card.users.cache.ttl:PT5M}") Duration cacheTtl) {
+        this.userAccountRepository = userAccountRepository;
+        this.usersInfo = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
     }
 
-    private void initializeUsers() {
-        usersInfo.put("admin", new UserInfo(
-                "admin",
-                passwordEncoder.encode("admin123"),
-                Arrays.asList("CARD_REGISTER", "CARD_QUERY")
-        ));
-
-        usersInfo.put("register", new UserInfo(
-                "register",
-                passwordEncoder.encode("register123"),
-                Arrays.asList("CARD_REGISTER")
-        ));
-
-        usersInfo.put("query", new UserInfo(
-                "query",
-                passwordEncoder.encode("query123"),
-                Arrays.asList("CARD_QUERY")
-        ));
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, usersInfo, "users");
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserInfo userInfo = usersInfo.get(username);
+        // Usuários inexistentes não entram no cache (o loader retorna null)
+        UserInfo userInfo = usersInfo.get(username, key -> userAccountRepository.findByUsername(key)
+                .map(UserInfo::of)
+                .orElse(null));
         if (userInfo == null) {
             throw new UsernameNotFoundException("User not found: " + username);
         }
-        
-        // Cria um novo UserDetails a cada chamada para evitar problemas de estado
-        List<SimpleGrantedAuthority> authorities = userInfo.getRoles().stream()
+
+        // Cria um novo UserDetails a cada chamada: o AuthenticationManager apaga a senha do objeto autenticado
+        List<SimpleGrantedAuthority> authorities = userInfo.roles().stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                 .toList();
-        
+
         return User.builder()
-                .username(userInfo.getUsername())
-                .password(userInfo.getPassword())
+                .username(userInfo.username())
+                .password(userInfo.password())
                 .authorities(authorities)
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
-                .disabled(false)
+                .disabled(!userInfo.enabled())
                 .build();
     }
-    
-    // Classe interna para armazenar informações do usuário
-    private static class UserInfo {
-        private final String username;
-        private final String password;
-        private final List<String> roles;
-        
-        public UserInfo(String username, String password, List<String> roles) {
-            this.username = username;
-            this.password = password;
-            this.roles = roles;
-        }
-        
-        public String getUsername() {
-            return username;
-        }
-        
-        public String getPassword() {
-            return password;
-        }
-        
-        public List<String> getRoles() {
-            return roles;
+
+    /**
+     * Descarta o usuário do cache (ex.: após alterar senha ou roles).
+     */
+    public void evict(String username) {
+        usersInfo.invalidate(username);
+    }
+
+    // Informações imutáveis do usuário guardadas no cache
+    private record UserInfo(String username, String password, List<String> roles, boolean enabled) {
+
+        static UserInfo of(UserAccount account) {
+            List<String> roles = Arrays.stream(account.getRoles().split(","))
+                    .map(String::trim)
+                    .filter(role -> !role.isEmpty())
+                    .toList();
+            return new UserInfo(account.getUsername(), account.getPasswordHash(), roles, account.isEnabled());
         }
     }
 }
-
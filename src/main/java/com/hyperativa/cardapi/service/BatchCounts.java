@@ -0,0 +1,43 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import lombok.Getter;
+
+/**
+ * Contadores de um lote acumulados em memória entre as gravações em batch_summaries.
+ */
+@Getter
+public class BatchCounts {
+
+    private long inserted;
+    private long duplicates;
+    private long rejected;
+
+    public void record(CardRegisterResponse response) {
+        if (response.getError() != null) {
+            rejected++;
+        } else if (Boolean.TRUE.equals(response.getAlreadyExists())) {
+            duplicates++;
+        } else {
+            inserted++;
+        }
+    }
+
+    public void reject() {
+        rejected++;
+    }
+
+    public long total() {
+        return inserted + duplicates + rejected;
+    }
+
+    public boolean isEmpty() {
+        return total() == 0;
+    }
+
+    public void reset() {
+        inserted = 0;
+        duplicates = 0;
+        rejected = 0;
+    }
+}
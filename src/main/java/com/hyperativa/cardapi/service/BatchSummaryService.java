@@ -0,0 +1,81 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.BatchSummaryResponse;
+import com.hyperativa.cardapi.entity.BatchSummary;
+import com.hyperativa.cardapi.repository.BatchSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Mantém batch_summaries durante a ingestão. Falhas aqui são apenas registradas:
+ * o resumo é derivado e não deve interromper o cadastro dos cartões.
+ * <p>
+ * Com sharding, a tabela fica no shard padrão (as chamadas são feitas fora de ShardContext).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchSummaryService {
+
+    private final BatchSummaryRepository batchSummaryRepository;
+
+    public void startBatch(String batchNumber, Integer declaredCount) {
+        try {
+            batchSummaryRepository.startBatch(batchNumber, declaredCount);
+        } catch (RuntimeException e) {
+            log.warn("Could not start summary for batch {}: {}", batchNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * Grava os contadores acumulados e zera {@code counts}.
+     */
+    public void flush(String batchNumber, BatchCounts counts) {
+        if (batchNumber == null || counts.isEmpty()) {
+            return;
+        }
+        try {
+            batchSummaryRepository.addCounts(batchNumber, counts.getInserted(), counts.getDuplicates(), counts.getRejected());
+            counts.reset();
+        } catch (RuntimeException e) {
+            // Mantém os contadores para a próxima tentativa
+            log.warn("Could not update summary for batch {}: {}", batchNumber, e.getMessage());
+        }
+    }
+
+    public void completeBatch(String batchNumber, Integer trailerCount) {
+        try {
+            batchSummaryRepository.completeBatch(batchNumber, trailerCount);
+        } catch (RuntimeException e) {
+            log.warn("Could not complete summary for batch {}: {}", batchNumber, e.getMessage());
+        }
+    }
+
+    public Optional<BatchSummaryResponse> getSummary(String batchNumber) {
+        return batchSummaryRepository.findById(batchNumber).map(BatchSummaryService::toResponse);
+    }
+
+    private static BatchSummaryResponse toResponse(BatchSummary summary) {
+        boolean processing = summary.getStartedAt() != null && summary.getCompletedAt() == null;
+        Long durationMillis = summary.getStartedAt() != null && summary.getCompletedAt() != null
+                ? Duration.between(summary.getStartedAt(), summary.getCompletedAt()).toMillis()
+                : null;
+        return BatchSummaryResponse.builder()
+                .batchNumber(summary.getBatchNumber())
+                .declaredCount(summary.getDeclaredCount())
+                .trailerCount(summary.getTrailerCount())
+                .insertedCount(summary.getInsertedCount())
+                .duplicateCount(summary.getDuplicateCount())
+                .rejectedCount(summary.getRejectedCount())
+                .processing(processing)
+                .startedAt(summary.getStartedAt())
+                .completedAt(summary.getCompletedAt())
+                .durationMillis(durationMillis)
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,262 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.CardRegisterRequest;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.entity.Card;
+import com.hyperativa.cardapi.jfr.IngestionChunkEvent;
+import com.hyperativa.cardapi.repository.CardIdView;
+import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.repository.CardUpsertResult;
+import com.hyperativa.cardapi.sharding.ShardExecutor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cadastro de cartões em lote com resultado por item.
+ * Cada chunk usa uma consulta de deduplicação e um insert em batch, em vez de uma transação por cartão.
+ */
+@Service
+@Slf4j
+public class CardBatchService {
+
+    private final CardRepository cardRepository;
+    private final EncryptionService encryptionService;
+    private final ShardExecutor shardExecutor;
+    private final BatchSummaryService batchSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public CardBatchService(CardRepository cardRepository,
+                            EncryptionService encryptionService,
+                            ShardExecutor shardExecutor,
+                            BatchSummaryService batchSummaryService,
+                            TransactionTemplate transactionTemplate,
+                            Validator validator,
+                            @Value("${card.batch.chunk-size:500}") int chunkSize,
+                            @Value("${card.batch.max-items:10000}") int maxItems) {
+        this.cardRepository = cardRepository;
+        this.encryptionService = encryptionService;
+        this.shardExecutor = shardExecutor;
+        this.batchSummaryService = batchSummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public List<CardRegisterResponse> registerCards(List<CardRegisterRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Request must contain at least one card");
+        }
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException("Request must contain at most " + maxItems + " cards");
+        }
+        log.info("Registering batch of {} cards", requests.size());
+
+        CardRegisterResponse[] responses = new CardRegisterResponse[requests.size()];
+        // Primeira ocorrência de cada hash é cadastrada; repetições no mesmo request reaproveitam o resultado
+        Map<String, BatchItem> uniqueItems = new LinkedHashMap<>();
+        Map<Integer, String> repeatedHashes = new HashMap<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CardRegisterRequest request = requests.get(index);
+            String error = validate(request);
+            if (error != null) {
+                responses[index] = CardRegisterResponse.builder()
+                        .sequenceNumber(request != null ? request.getSequenceNumber() : null)
+                        .message("Card rejected")
+                        .error(error)
+                        .build();
+                continue;
+            }
+            String cardHash = encryptionService.hashCardNumber(request.getCardNumber());
+            if (uniqueItems.containsKey(cardHash)) {
+                repeatedHashes.put(index, cardHash);
+            } else {
+                uniqueItems.put(cardHash, new BatchItem(index, request, cardHash));
+            }
+        }
+
+        List<BatchItem> pending = new ArrayList<>(uniqueItems.values());
+        for (int start = 0; start < pending.size(); start += chunkSize) {
+            List<BatchItem> chunk = pending.subList(start, Math.min(start + chunkSize, pending.size()));
+            List<BatchItem> registered = shardExecutor.executeByShard(chunk, BatchItem::cardHash, this::registerChunk);
+            for (BatchItem item : registered) {
+                responses[item.index()] = item.response();
+            }
+        }
+
+        repeatedHashes.forEach((index, cardHash) -> {
+            CardRegisterResponse first = responses[uniqueItems.get(cardHash).index()];
+            responses[index] = CardRegisterResponse.builder()
+                    .id(first.getId())
+                    .sequenceNumber(requests.get(index).getSequenceNumber())
+                    .message(first.getError() == null ? "Card already registered" : "Card rejected")
+                    .alreadyExists(first.getError() == null ? true : null)
+                    .error(first.getError())
+                    .build();
+        });
+
+        recordSummaries(requests, responses);
+        return List.of(responses);
+    }
+
+    // Uma gravação por lote presente no request, fora dos shards (batch_summaries fica no shard padrão)
+    private void recordSummaries(List<CardRegisterRequest> requests, CardRegisterResponse[] responses) {
+        Map<String, BatchCounts> countsByBatch = new HashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            CardRegisterRequest request = requests.get(index);
+            if (request == null || request.getBatchNumber() == null || request.getBatchNumber().isBlank()
+                    || request.getBatchNumber().length() > 10) {
+                continue;
+            }
+            countsByBatch.computeIfAbsent(request.getBatchNumber(), batch -> new BatchCounts()).record(responses[index]);
+        }
+        countsByBatch.forEach(batchSummaryService::flush);
+    }
+
+    private String validate(CardRegisterRequest request) {
+        if (request == null) {
+            return "Card is required";
+        }
+        Set<ConstraintViolation<CardRegisterRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<BatchItem> registerChunk(List<BatchItem> chunk) {
+        IngestionChunkEvent event = new IngestionChunkEvent();
+        event.begin();
+        String outcome = "FAILED";
+        int inserted = 0;
+        try {
+            Map<String, Long> existingIds = cardRepository.findIdsByCardHashIn(
+                            chunk.stream().map(BatchItem::cardHash).toList())
+                    .stream()
+                    .collect(Collectors.toMap(CardIdView::getCardHash, CardIdView::getId));
+
+            List<BatchItem> newItems = new ArrayList<>();
+            for (BatchItem item : chunk) {
+                Long existingId = existingIds.get(item.cardHash());
+                if (existingId != null) {
+                    item.complete(existingId, true);
+                } else {
+                    newItems.add(item);
+                }
+            }
+            if (newItems.isEmpty()) {
+                outcome = "NO_NEW_CARDS";
+                return chunk;
+            }
+
+            // Criptografa fora da transação para não segurar a conexão durante o trabalho de CPU
+            List<Card> cards = newItems.stream().map(this::toCard).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    cardRepository.saveAll(cards);
+                    cardRepository.flush();
+                });
+                for (int i = 0; i < newItems.size(); i++) {
+                    newItems.get(i).complete(cards.get(i).getId(), false);
+                }
+                inserted = newItems.size();
+                outcome = "COMMITTED";
+            } catch (DataIntegrityViolationException e) {
+                // Outro request cadastrou algum cartão do chunk entre a consulta e o insert
+                log.warn("Concurrent registration detected in batch chunk, retrying items individually");
+                for (int i = 0; i < newItems.size(); i++) {
+                    Card card = cards.get(i);
+                    card.setId(null);
+                    CardUpsertResult result = transactionTemplate.execute(status -> cardRepository.insertIfAbsent(card));
+                    newItems.get(i).complete(result.id(), !result.inserted());
+                    if (result.inserted()) {
+                        inserted++;
+                    }
+                }
+                outcome = "RETRIED_INDIVIDUALLY";
+            }
+        } catch (RuntimeException e) {
+            log.error("Error registering batch chunk: {}", e.getMessage(), e);
+            chunk.stream().filter(item -> item.response() == null).forEach(BatchItem::fail);
+        } finally {
+            event.finish("BATCH", chunk.get(0).request().getBatchNumber(), chunk.size(), inserted, outcome);
+        }
+        return chunk;
+    }
+
+    private Card toCard(BatchItem item) {
+        CardRegisterRequest request = item.request();
+        return Card.builder()
+                .cardHash(item.cardHash())
+                .encryptedCardNumber(encryptionService.encrypt(request.getCardNumber()))
+                .batchNumber(request.getBatchNumber())
+                .sequenceNumber(request.getSequenceNumber())
+                .build();
+    }
+
+    private static final class BatchItem {
+        private final int index;
+        private final CardRegisterRequest request;
+        private final String cardHash;
+        private CardRegisterResponse response;
+
+        private BatchItem(int index, CardRegisterRequest request, String cardHash) {
+            this.index = index;
+            this.request = request;
+            this.cardHash = cardHash;
+        }
+
+        int index() {
+            return index;
+        }
+
+        CardRegisterRequest request() {
+            return request;
+        }
+
+        String cardHash() {
+            return cardHash;
+        }
+
+        CardRegisterResponse response() {
+            return response;
+        }
+
+        void complete(Long id, boolean alreadyExists) {
+            response = CardRegisterResponse.builder()
+                    .id(id)
+                    .sequenceNumber(request.getSequenceNumber())
+                    .message(alreadyExists ? "Card already registered" : "Card registered successfully")
+                    .alreadyExists(alreadyExists)
+                    .build();
+        }
+
+        void fail() {
+            response = CardRegisterResponse.builder()
+                    .sequenceNumber(request.getSequenceNumber())
+                    .message("Card rejected")
+                    .error("Unexpected error registering card")
+                    .build();
+        }
+    }
+}
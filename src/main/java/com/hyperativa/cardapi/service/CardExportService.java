@@ -0,0 +1,173 @@
+package com.hyperativa.cardapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyperativa.cardapi.dto.CardExportItem;
+import com.hyperativa.cardapi.repository.CardExportView;
+import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.sharding.ShardContext;
+import com.hyperativa.cardapi.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exportação dos cartões de um lote com os números descriptografados.
+ * <p>
+ * Percorre a tabela por keyset (batchNumber, id > último id), uma página por vez, e escreve cada
+ * página assim que descriptografada: a memória usada não depende do tamanho do lote.
+ * Com sharding, os shards são percorridos em sequência (ordem por id dentro de cada shard).
+ */
+@Service
+@Slf4j
+public class CardExportService implements DisposableBean {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private static final String CSV_HEADER = "id,cardNumber,sequenceNumber,createdAt";
+
+    private final CardRepository cardRepository;
+    private final EncryptionService encryptionService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService decryptExecutor;
+    private final int pageSize;
+
+    public CardExportService(CardRepository cardRepository,
+                             EncryptionService encryptionService,
+                             ShardRouter shardRouter,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${card.export.page-size:1000}") int pageSize,
+                             @Value("${card.export.decrypt-parallelism:4}") int decryptParallelism) {
+        this.cardRepository = cardRepository;
+        this.encryptionService = encryptionService;
+        this.shardRouter = shardRouter;
+        // Páginas em transação read-only: com réplica configurada, a exportação não pesa no primário
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        AtomicInteger counter = new AtomicInteger();
+        this.decryptExecutor = Executors.newFixedThreadPool(decryptParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "card-export-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Escreve os cartões do lote em {@code outputStream}, retornando quantos foram exportados.
+     */
+    public long export(String batchNumber, Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        for (String shard : shardRouter.getShardNames()) {
+            long afterId = 0L;
+            List<CardExportView> page;
+            do {
+                page = fetchPage(shard, batchNumber, afterId);
+                for (CardExportItem item : decrypt(page)) {
+                    writer.write(format == Format.CSV ? toCsv(item) : objectMapper.writeValueAsString(item));
+                    writer.write('\n');
+                }
+                // Entrega cada página ao cliente em vez de acumular no buffer
+                writer.flush();
+                exported += page.size();
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == pageSize);
+        }
+
+        log.info("Exported {} cards from batch {}", exported, batchNumber);
+        return exported;
+    }
+
+    private List<CardExportView> fetchPage(String shard, String batchNumber, long afterId) {
+        try (ShardContext.Scope ignored = ShardContext.use(shard)) {
+            return readOnlyTransaction.execute(status ->
+                    cardRepository.findBatchPageAfter(batchNumber, afterId, PageRequest.of(0, pageSize)));
+        }
+    }
+
+    // Descriptografa a página em paralelo, mantendo a ordem por id
+    private List<CardExportItem> decrypt(List<CardExportView> page) {
+        List<CompletableFuture<CardExportItem>> futures = new ArrayList<>(page.size());
+        for (CardExportView card : page) {
+            futures.add(CompletableFuture.supplyAsync(() -> CardExportItem.builder()
+                    .id(card.getId())
+                    .cardNumber(encryptionService.decrypt(card.getEncryptedCardNumber()))
+                    .sequenceNumber(card.getSequenceNumber())
+                    .createdAt(card.getCreatedAt())
+                    .build(), decryptExecutor));
+        }
+        List<CardExportItem> items = new ArrayList<>(futures.size());
+        for (CompletableFuture<CardExportItem> future : futures) {
+            items.add(future.join());
+        }
+        return items;
+    }
+
+    private static String toCsv(CardExportItem item) {
+        return item.getId() + ","
+                + item.getCardNumber() + ","
+                + (item.getSequenceNumber() != null ? item.getSequenceNumber() : "") + ","
+                + (item.getCreatedAt() != null ? item.getCreatedAt() : "");
+    }
+
+    @Override
+    public void destroy() {
+        decryptExecutor.shutdownNow();
+    }
+}
@@ -3,13 +3,25 @@ package com.hyperativa.cardapi.service;
 import com.hyperativa.cardapi.dto.CardCheckResponse;
 import com.hyperativa.cardapi.dto.CardRegisterResponse;
 import com.hyperativa.cardapi.entity.Card;
+import com.hyperativa.cardapi.jfr.CardCheckEvent;
+import com.hyperativa.cardapi.jfr.CardRegisterEvent;
 import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.repository.CardUpsertResult;
+import com.hyperativa.cardapi.sharding.ShardContext;
+import com.hyperativa.cardapi.sharding.ShardRouter;
+import com.hyperativa.cardapi.tracing.StageTimings;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.hyperativa.cardapi.tracing.Spans.inSpan;
 
 @Service
 @RequiredArgsConstructor
@@ -18,24 +30,36 @@ public class CardService {
 
     private final CardRepository cardRepository;
     private final EncryptionService encryptionService;
+    private final ShardRouter shardRouter;
+
+    // Spans por etapa (hash, encrypt, persist) só com card.tracing.card-spans; sem tracing configurado fica no-op
+    @Autowired(required = false)
+    private Tracer tracer = Tracer.NOOP;
+
+    // Desligado: o tempo de cada etapa é somado nos atributos do span do chunk (StageTimings)
+    @Value("${card.tracing.card-spans:false}")
+    private boolean cardSpans;
 
     @Transactional
     public CardRegisterResponse registerCard(String cardNumber, String batchNumber, Integer sequenceNumber) {
-        log.info("Registering card - Batch: {}, Sequence: {}", batchNumber, sequenceNumber);
-        
-        String cardHash = encryptionService.hashCardNumber(cardNumber);
-        
-        if (cardRepository.existsByCardHash(cardHash)) {
-            log.warn("Card already exists in database");
-            Optional<Card> existingCard = cardRepository.findByCardHash(cardHash);
-            return CardRegisterResponse.builder()
-                    .id(existingCard.map(Card::getId).orElse(null))
-                    .message("Card already registered")
-                    .alreadyExists(true)
-                    .build();
+        CardRegisterEvent event = new CardRegisterEvent();
+        event.begin();
+        CardRegisterResponse response = null;
+        try {
+            response = doRegisterCard(cardNumber, batchNumber, sequenceNumber);
+            return response;
+        } finally {
+            event.finish(batchNumber, sequenceNumber, response != null ? response.getId() : null,
+                    response == null ? "FAILED" : Boolean.TRUE.equals(response.getAlreadyExists()) ? "DUPLICATE" : "INSERTED");
         }
+    }
 
-        String encryptedCardNumber = encryptionService.encrypt(cardNumber);
+    private CardRegisterResponse doRegisterCard(String cardNumber, String batchNumber, Integer sequenceNumber) {
+        log.debug("Registering card - Batch: {}, Sequence: {}", batchNumber, sequenceNumber);
+        
+        String cardHash = stage("card.hash", () -> encryptionService.hashCardNumber(cardNumber));
+        
+        String encryptedCardNumber = stage("card.encrypt", () -> encryptionService.encrypt(cardNumber));
         
         Card card = Card.builder()
                 .cardHash(cardHash)
@@ -44,28 +68,62 @@ public class CardService {
                 .sequenceNumber(sequenceNumber)
                 .build();
 
-        Card savedCard = cardRepository.save(card);
-        log.info("Card registered successfully with ID: {}", savedCard.getId());
+        // Insert-if-absent atômico: elimina a corrida entre verificação e inserção
+        CardUpsertResult result = stage("card.persist", () -> {
+            try (ShardContext.Scope ignored = ShardContext.use(shardRouter.shardFor(cardHash))) {
+                return cardRepository.insertIfAbsent(card);
+            }
+        });
+        if (!result.inserted()) {
+            log.debug("Card already exists in database");
+            return CardRegisterResponse.builder()
+                    .id(result.id())
+                    .message("Card already registered")
+                    .alreadyExists(true)
+                    .build();
+        }
+
+        log.debug("Card registered successfully with ID: {}", result.id());
 
         return CardRegisterResponse.builder()
-                .id(savedCard.getId())
+                .id(result.id())
                 .message("Card registered successfully")
                 .alreadyExists(false)
                 .build();
     }
 
+    private <T> T stage(String name, Supplier<T> work) {
+        return cardSpans ? inSpan(tracer, name, work) : StageTimings.time(name, work);
+    }
+
     @Transactional(readOnly = true)
     public CardCheckResponse checkCard(String cardNumber) {
+        CardCheckEvent event = new CardCheckEvent();
+        event.begin();
+        CardCheckResponse response = null;
+        try {
+            response = doCheckCard(cardNumber);
+            return response;
+        } finally {
+            event.finish(response != null ? response.getCardId() : null,
+                    response == null ? "FAILED" : response.isExists() ? "FOUND" : "NOT_FOUND");
+        }
+    }
+
+    private CardCheckResponse doCheckCard(String cardNumber) {
         log.info("Checking card existence");
         
         String cardHash = encryptionService.hashCardNumber(cardNumber);
-        Optional<Card> card = cardRepository.findByCardHash(cardHash);
+        Optional<Long> cardId;
+        try (ShardContext.Scope ignored = ShardContext.use(shardRouter.shardFor(cardHash))) {
+            cardId = cardRepository.findIdByCardHash(cardHash);
+        }
 
-        if (card.isPresent()) {
-            log.info("Card found with ID: {}", card.get().getId());
+        if (cardId.isPresent()) {
+            log.info("Card found with ID: {}", cardId.get());
             return CardCheckResponse.builder()
                     .exists(true)
-                    .cardId(card.get().getId())
+                    .cardId(cardId.get())
                     .message("Card found")
                     .build();
         }
@@ -1,44 +1,67 @@
 package com.hyperativa.cardapi.service;
 
-import org.jasypt.encryption.StringEncryptor;
-import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
+import com.hyperativa.cardapi.jfr.CardCryptoEvent;
+import com.hyperativa.cardapi.jfr.CardHashEvent;
+import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.jasypt.encryption.pbe.config.SimpleStringPBEConfig;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
 
 @Service
 public class EncryptionService {
 
-    private final StringEncryptor encryptor;
+    /**
+     * Pool próprio de encryptors no lugar do PooledPBEStringEncryptor do jasypt, que serializa as
+     * chamadas com synchronized (e prende a thread carregadora quando roda em virtual threads).
+     * A fila usa ReentrantLock; cada encryptor é usado por uma thread de cada vez, então os
+     * synchronized internos do jasypt nunca ficam disputados.
+     */
+    private final BlockingQueue<StandardPBEStringEncryptor> encryptors;
 
-    public EncryptionService(@Value("${jasypt.encryptor.password}") String password) {
-        PooledPBEStringEncryptor pooledEncryptor = new PooledPBEStringEncryptor();
-        SimpleStringPBEConfig config = new SimpleStringPBEConfig();
-        config.setPassword(password);
-        config.setAlgorithm("PBEWITHHMACSHA512ANDAES_256");
-        config.setKeyObtentionIterations("1000");
-        config.setPoolSize("1");
-        config.setProviderName("SunJCE");
-        config.setSaltGeneratorClassName("org.jasypt.salt.RandomSaltGenerator");
-        config.setIvGeneratorClassName("org.jasypt.iv.RandomIvGenerator");
-        config.setStringOutputType("base64");
-        pooledEncryptor.setConfig(config);
-        this.encryptor = pooledEncryptor;
+    public EncryptionService(String password) {
+        this(password, 0);
+    }
+
+    @Autowired
+    public EncryptionService(@Value("${jasypt.encryptor.password}") String password,
+                             @Value("${card.encryption.pool-size:0}") int poolSize) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.encryptors = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            encryptors.add(createEncryptor(password));
+        }
     }
 
     public String encrypt(String plainText) {
-        return encryptor.encrypt(plainText);
+        return withEncryptor("ENCRYPT", encryptor -> encryptor.encrypt(plainText));
     }
 
     public String decrypt(String encryptedText) {
-        return encryptor.decrypt(encryptedText);
+        return withEncryptor("DECRYPT", encryptor -> encryptor.decrypt(encryptedText));
     }
 
     public String hashCardNumber(String cardNumber) {
+        CardHashEvent event = new CardHashEvent();
+        event.begin();
+        String outcome = "FAILED";
+        try {
+            String hash = sha256Hex(cardNumber);
+            outcome = "OK";
+            return hash;
+        } finally {
+            event.finish(outcome);
+        }
+    }
+
+    private String sha256Hex(String cardNumber) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(cardNumber.getBytes(StandardCharsets.UTF_8));
@@ -55,6 +78,46 @@ public class EncryptionService {
             throw new RuntimeException("Error generating hash", e);
         }
     }
-}
 
+    private String withEncryptor(String operationName, Function<StandardPBEStringEncryptor, String> operation) {
+        CardCryptoEvent event = new CardCryptoEvent();
+        event.begin();
+        long waitStart = System.nanoTime();
+        long poolWait = 0;
+        String outcome = "FAILED";
+        StandardPBEStringEncryptor encryptor;
+        try {
+            encryptor = encryptors.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            event.finish(operationName, System.nanoTime() - waitStart, "INTERRUPTED");
+            throw new IllegalStateException("Interrupted while waiting for an encryptor", e);
+        }
+        try {
+            poolWait = System.nanoTime() - waitStart;
+            String result = operation.apply(encryptor);
+            outcome = "OK";
+            return result;
+        } finally {
+            encryptors.add(encryptor);
+            event.finish(operationName, poolWait, outcome);
+        }
+    }
+
+    private static StandardPBEStringEncryptor createEncryptor(String password) {
+        SimpleStringPBEConfig config = new SimpleStringPBEConfig();
+        config.setPassword(password);
+        config.setAlgorithm("PBEWITHHMACSHA512ANDAES_256");
+        config.setKeyObtentionIterations("1000");
+        config.setProviderName("SunJCE");
+        config.setSaltGeneratorClassName("org.jasypt.salt.RandomSaltGenerator");
+        config.setIvGeneratorClassName("org.jasypt.iv.RandomIvGenerator");
+        config.setStringOutputType("base64");
 
+        StandardPBEStringEncryptor encryptor = new StandardPBEStringEncryptor();
+        encryptor.setConfig(config);
+        // Inicializa já na criação: initialize() é synchronized e não deve rodar sob concorrência
+        encryptor.initialize();
+        return encryptor;
+    }
+}
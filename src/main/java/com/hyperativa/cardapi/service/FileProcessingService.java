@@ -1,8 +1,14 @@
 package com.hyperativa.cardapi.service;
 
 import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.jfr.IngestionChunkEvent;
+import com.hyperativa.cardapi.tracing.StageTimings;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -10,8 +16,11 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -20,12 +29,46 @@ import java.util.concurrent.CompletableFuture;
 public class FileProcessingService {
 
     private final CardService cardService;
+    private final BatchSummaryService batchSummaryService;
+
+    // Cartões processados entre gravações dos contadores em batch_summaries
+    @Value("${card.batch.chunk-size:500}")
+    private int summaryFlushInterval = 500;
+
+    // Um evento de progresso a cada N cartões ou T de tempo, no lugar de logs por linha
+    @Value("${card.logging.ingestion.progress-every-lines:10000}")
+    private long progressEveryLines = 10_000;
+
+    @Value("${card.logging.ingestion.progress-interval:PT10S}")
+    private Duration progressInterval = Duration.ofSeconds(10);
+
+    // Span do job e de cada chunk; o tempo de cada etapa dos cartões vira atributo do chunk
+    @Autowired(required = false)
+    private Tracer tracer = Tracer.NOOP;
 
     @Async
     public CompletableFuture<List<CardRegisterResponse>> processFile(MultipartFile file) {
+        Span jobSpan = tracer.nextSpan().name("card.file.process")
+                .tag("file", String.valueOf(file.getOriginalFilename()))
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(jobSpan)) {
+            return CompletableFuture.completedFuture(process(file));
+        } catch (RuntimeException e) {
+            jobSpan.error(e);
+            throw e;
+        } finally {
+            jobSpan.end();
+        }
+    }
+
+    private List<CardRegisterResponse> process(MultipartFile file) {
         log.info("Starting file processing: {}", file.getOriginalFilename());
+        IngestionProgress progress = new IngestionProgress(file.getOriginalFilename(), progressEveryLines, progressInterval);
+        ChunkSpans chunkSpans = new ChunkSpans(tracer, summaryFlushInterval, progress.getFileCounts());
         List<CardRegisterResponse> responses = new ArrayList<>();
-        
+        BatchCounts counts = new BatchCounts();
+        String summaryBatch = null; // Lote cujos contadores estão sendo acumulados
+
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
             
@@ -47,17 +90,24 @@ public class FileProcessingService {
                     !trimmedLine.startsWith("LOTE")) {
                     batchNumber = originalLine.substring(37, 45).trim();
                     if (!batchNumber.isEmpty()) {
-                        log.info("Processing batch: {}", batchNumber);
+                        chunkSpans.close();
+                        finishSummary(summaryBatch, counts, null);
+                        // [46-51] quantidade de registros declarada no header
+                        Integer declaredCount = parseCount(originalLine, 45, 51);
+                        batchSummaryService.startBatch(batchNumber, declaredCount);
+                        progress.startBatch(batchNumber, declaredCount);
+                        summaryBatch = batchNumber;
                     }
                     continue;
                 }
 
                 if (trimmedLine.startsWith("C")) {
+                    chunkSpans.beforeCard(batchNumber);
+                    String cardNumber = "";
                     try {
                         // [01-01]IDENTIFICADOR (C) [02-07]NUMERAÇÃO [08-26]NÚMERO DE CARTAO
                         // Tenta usar posições fixas primeiro, depois fallback para parsing flexível
                         String sequencePart = "";
-                        String cardNumber = "";
                         
                         if (originalLine.length() >= 8) {
                             // [02-07] numeração (índices 1-6)
@@ -94,46 +144,76 @@ public class FileProcessingService {
                             }
                         }
 
-                        log.info("Line {}: sequencePart='{}', cardNumber='{}', originalLine.length={}, trimmedLine='{}'", 
-                                lineNumber, sequencePart, cardNumber, originalLine.length(), trimmedLine);
-
                         if (!cardNumber.isEmpty() && cardNumber.matches("^\\d+$")) {
                             Integer sequenceNumber = parseSequenceNumber(sequencePart);
-                            log.info("Processing card {}: number={}, batch={}, sequence={}", 
-                                    lineNumber, cardNumber, batchNumber, sequenceNumber);
                             CardRegisterResponse response = cardService.registerCard(
                                     cardNumber, batchNumber, sequenceNumber);
                             // Adiciona informações adicionais da linha processada
                             response.setLineNumber(lineNumber);
                             response.setSequenceNumber(sequenceNumber);
                             responses.add(response);
-                            log.info("Card {} registered successfully", cardNumber);
+                            counts.record(response);
+                            progress.record(response);
                         } else {
-                            log.warn("Line {} skipped: cardNumber='{}' is empty or invalid (must be digits only)", 
-                                    lineNumber, cardNumber);
+                            counts.reject();
+                            progress.reject(lineNumber, cardNumber, "Card number is empty or not numeric");
                         }
                     } catch (Exception e) {
-                        log.error("Error processing line {}: {}", lineNumber, e.getMessage(), e);
+                        // Stack trace só em DEBUG: com o banco fora, todas as linhas falhariam
+                        log.debug("Error processing line {}", lineNumber, e);
+                        counts.reject();
+                        progress.reject(lineNumber, cardNumber, e.getClass().getSimpleName() + ": " + e.getMessage());
                     }
+                    if (counts.total() >= summaryFlushInterval) {
+                        batchSummaryService.flush(summaryBatch, counts);
+                    }
+                    chunkSpans.afterCard();
                 }
                 
                 if (trimmedLine.startsWith("LOTE") && originalLine.length() >= 8) {
                     batchNumber = originalLine.substring(0, Math.min(8, originalLine.length())).trim();
                     if (!batchNumber.isEmpty()) {
-                        log.info("Batch number from footer: {}", batchNumber);
+                        // [09-14] quantidade de registros declarada no trailer
+                        Integer trailerCount = parseCount(originalLine, 8, 14);
+                        chunkSpans.close();
+                        finishSummary(summaryBatch, counts, trailerCount);
+                        progress.finishBatch(trailerCount);
+                        summaryBatch = null;
                     }
                 }
             }
             
-            log.info("File processing completed. Processed {} cards", responses.size());
-            return CompletableFuture.completedFuture(responses);
+            // Arquivo sem trailer: fecha o resumo do último lote mesmo assim
+            chunkSpans.close();
+            finishSummary(summaryBatch, counts, null);
+            progress.finish();
+            return responses;
             
         } catch (Exception e) {
+            chunkSpans.close();
+            batchSummaryService.flush(summaryBatch, counts);
             log.error("Error processing file: {}", e.getMessage(), e);
             throw new RuntimeException("Error processing file: " + e.getMessage(), e);
         }
     }
 
+    private void finishSummary(String summaryBatch, BatchCounts counts, Integer trailerCount) {
+        if (summaryBatch == null) {
+            // Cartões antes de qualquer header não pertencem a um lote
+            counts.reset();
+            return;
+        }
+        batchSummaryService.flush(summaryBatch, counts);
+        batchSummaryService.completeBatch(summaryBatch, trailerCount);
+    }
+
+    private Integer parseCount(String line, int start, int end) {
+        if (line.length() <= start) {
+            return null;
+        }
+        return parseSequenceNumber(line.substring(start, Math.min(end, line.length())));
+    }
+
     private Integer parseSequenceNumber(String sequencePart) {
         try {
             String cleaned = sequencePart.replaceAll("[^0-9]", "");
@@ -142,5 +222,72 @@ public class FileProcessingService {
             return null;
         }
     }
-}
 
+    /**
+     * Um span por chunk de até {@code size} cartões de um mesmo lote, mantido como span corrente
+     * enquanto o chunk é processado, e o evento JFR correspondente. Chunks amostrados levam o tempo
+     * total de cada etapa dos cartões nos atributos {@code <etapa>.ms} (ex.: card.persist.ms).
+     */
+    private static final class ChunkSpans {
+
+        private final Tracer tracer;
+        private final int size;
+        private final BatchCounts fileCounts;
+        private Span span;
+        private Tracer.SpanInScope scope;
+        private StageTimings timings;
+        private IngestionChunkEvent event;
+        private String batchNumber;
+        private long insertedAtStart;
+        private int cards;
+        private int index;
+
+        ChunkSpans(Tracer tracer, int size, BatchCounts fileCounts) {
+            this.tracer = tracer;
+            this.size = Math.max(1, size);
+            this.fileCounts = fileCounts;
+        }
+
+        void beforeCard(String batchNumber) {
+            if (span == null) {
+                this.batchNumber = batchNumber;
+                insertedAtStart = fileCounts.getInserted();
+                event = new IngestionChunkEvent();
+                event.begin();
+                span = tracer.nextSpan().name("card.file.chunk")
+                        .tag("batch", String.valueOf(batchNumber))
+                        .tag("chunk", String.valueOf(index++))
+                        .start();
+                scope = tracer.withSpan(span);
+                timings = span.isNoop() ? null : StageTimings.start();
+            }
+        }
+
+        void afterCard() {
+            if (++cards >= size) {
+                close();
+            }
+        }
+
+        void close() {
+            if (span == null) {
+                return;
+            }
+            span.tag("cards", String.valueOf(cards));
+            if (timings != null) {
+                timings.close();
+                for (Map.Entry<String, Long> stage : timings.getNanosByStage().entrySet()) {
+                    span.tag(stage.getKey() + ".ms", String.format(Locale.ROOT, "%.3f", stage.getValue() / 1e6));
+                }
+            }
+            scope.close();
+            span.end();
+            event.finish("FILE", batchNumber, cards, (int) (fileCounts.getInserted() - insertedAtStart), "COMPLETED");
+            span = null;
+            scope = null;
+            timings = null;
+            event = null;
+            cards = 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Eventos de log de uma ingestão de arquivo, no lugar de linhas de log por cartão.
+ * <p>
+ * Emite um evento de progresso a cada {@code everyLines} cartões ou {@code interval} (o que vier
+ * primeiro), um resumo por lote e um resumo do arquivo no logger "ingestion". Linhas rejeitadas vão
+ * para o logger "ingestion.rejects", sempre com o PAN mascarado.
+ */
+public class IngestionProgress {
+
+    private static final Logger PROGRESS_LOG = LoggerFactory.getLogger("ingestion");
+    private static final Logger REJECT_LOG = LoggerFactory.getLogger("ingestion.rejects");
+
+    private final String fileName;
+    private final long everyLines;
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final long fileStart;
+
+    private final BatchCounts fileCounts = new BatchCounts();
+    private final BatchCounts batchCounts = new BatchCounts();
+    private String batchNumber;
+    private long batchStart;
+    private long linesSinceEvent;
+    private long lastEvent;
+
+    public IngestionProgress(String fileName, long everyLines, Duration interval) {
+        this(fileName, everyLines, interval, System::nanoTime);
+    }
+
+    IngestionProgress(String fileName, long everyLines, Duration interval, LongSupplier clock) {
+        this.fileName = fileName;
+        this.everyLines = Math.max(1, everyLines);
+        this.intervalNanos = interval.toNanos();
+        this.clock = clock;
+        this.fileStart = clock.getAsLong();
+        this.lastEvent = fileStart;
+    }
+
+    public void startBatch(String batchNumber, Integer declaredCount) {
+        finishBatch(null);
+        this.batchNumber = batchNumber;
+        this.batchStart = clock.getAsLong();
+        PROGRESS_LOG.info("Batch started {} {} {}", kv("file", fileName), kv("batchNumber", batchNumber),
+                kv("declaredCount", declaredCount));
+    }
+
+    /**
+     * Fecha o lote atual (se houver) com um resumo estruturado.
+     */
+    public void finishBatch(Integer trailerCount) {
+        if (batchNumber == null) {
+            return;
+        }
+        PROGRESS_LOG.info("Batch summary {} {} {} {} {} {} {}", kv("file", fileName), kv("batchNumber", batchNumber),
+                kv("inserted", batchCounts.getInserted()), kv("duplicates", batchCounts.getDuplicates()),
+                kv("rejected", batchCounts.getRejected()), kv("trailerCount", trailerCount),
+                kv("durationMs", elapsedMillis(batchStart)));
+        batchCounts.reset();
+        batchNumber = null;
+    }
+
+    public void record(CardRegisterResponse response) {
+        fileCounts.record(response);
+        batchCounts.record(response);
+        advance();
+    }
+
+    /**
+     * Registra uma linha rejeitada no canal de rejeições, com o número do cartão mascarado.
+     */
+    public void reject(int lineNumber, String cardNumber, String reason) {
+        fileCounts.reject();
+        batchCounts.reject();
+        REJECT_LOG.warn("Line rejected {} {} {} {} {}", kv("line", lineNumber), kv("reason", reason),
+                kv("file", fileName), kv("batchNumber", batchNumber), kv("card", maskPan(cardNumber)));
+        advance();
+    }
+
+    /**
+     * Fecha o lote pendente e registra o resumo do arquivo.
+     */
+    public void finish() {
+        finishBatch(null);
+        PROGRESS_LOG.info("File processed {} {} {} {} {}", kv("file", fileName),
+                kv("inserted", fileCounts.getInserted()), kv("duplicates", fileCounts.getDuplicates()),
+                kv("rejected", fileCounts.getRejected()), kv("durationMs", elapsedMillis(fileStart)));
+    }
+
+    public BatchCounts getFileCounts() {
+        return fileCounts;
+    }
+
+    private void advance() {
+        linesSinceEvent++;
+        long now = clock.getAsLong();
+        if (linesSinceEvent >= everyLines || now - lastEvent >= intervalNanos) {
+            PROGRESS_LOG.info("Ingestion progress {} {} {} {} {}", kv("file", fileName), kv("batchNumber", batchNumber),
+                    kv("processed", fileCounts.total()), kv("rejected", fileCounts.getRejected()),
+                    kv("linesPerSecond", linesSinceEvent * TimeUnit.SECONDS.toNanos(1) / Math.max(1, now - lastEvent)));
+            linesSinceEvent = 0;
+            lastEvent = now;
+        }
+    }
+
+    private long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(clock.getAsLong() - start);
+    }
+
+    /**
+     * Mascara um PAN mantendo os 6 primeiros e 4 últimos dígitos (PCI DSS); valores curtos
+     * ou que não são só dígitos mantêm apenas os 4 últimos caracteres.
+     */
+    static String maskPan(String cardNumber) {
+        if (cardNumber == null || cardNumber.isEmpty()) {
+            return "";
+        }
+        int length = cardNumber.length();
+        if (length >= 13 && cardNumber.chars().allMatch(Character::isDigit)) {
+            return cardNumber.substring(0, 6) + "*".repeat(length - 10) + cardNumber.substring(length - 4);
+        }
+        if (length <= 4) {
+            return "*".repeat(length);
+        }
+        return "*".repeat(length - 4) + cardNumber.substring(length - 4);
+    }
+}
@@ -0,0 +1,46 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.CardCheckResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consulta de cartões não bloqueante via R2DBC. Nenhuma thread fica presa esperando o banco:
+ * milhares de consultas podem ficar em andamento com o pequeno pool de event loop do driver.
+ * <p>
+ * Usa um único banco (spring.r2dbc), por isso não é registrado com sharding ativo.
+ */
+@Service
+@ConditionalOnProperty(name = "card.sharding.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveCardService {
+
+    private static final String FIND_ID_BY_HASH_SQL = "SELECT id FROM cards WHERE card_hash = :cardHash";
+
+    private final DatabaseClient databaseClient;
+    private final EncryptionService encryptionService;
+
+    public Mono<CardCheckResponse> checkCard(String cardNumber) {
+        String cardHash = encryptionService.hashCardNumber(cardNumber);
+
+        return databaseClient.sql(FIND_ID_BY_HASH_SQL)
+                .bind("cardHash", cardHash)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .first()
+                .map(cardId -> CardCheckResponse.builder()
+                        .exists(true)
+                        .cardId(cardId)
+                        .message("Card found")
+                        .build())
+                .defaultIfEmpty(CardCheckResponse.builder()
+                        .exists(false)
+                        .cardId(null)
+                        .message("Card not found")
+                        .build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.hyperativa.cardapi.sharding;
+
+/**
+ * Shard da operação corrente, lido pelo {@link ShardRoutingDataSource} ao obter a conexão.
+ * Sem shard definido, a conexão vai para o shard padrão (primeiro configurado).
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Define o shard até o fechamento do escopo, restaurando o valor anterior.
+     */
+    public static Scope use(String shard) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
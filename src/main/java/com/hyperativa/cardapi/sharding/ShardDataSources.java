@@ -0,0 +1,66 @@
+package com.hyperativa.cardapi.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pools Hikari de cada shard, na ordem configurada. O primeiro é o shard padrão.
+ * Os pools não são beans: as métricas hikaricp.* (tag pool = nome do shard) são registradas aqui.
+ */
+public class ShardDataSources implements AutoCloseable, MeterBinder {
+
+    private final Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+
+    public ShardDataSources(ShardingProperties properties, String driverClassName) {
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(driverClassName)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName(shard.getName());
+            dataSources.put(shard.getName(), dataSource);
+        }
+        if (dataSources.isEmpty()) {
+            throw new IllegalStateException("card.sharding.enabled requires at least one card.sharding.shards entry");
+        }
+    }
+
+    public DataSource get(String shard) {
+        DataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        return dataSource;
+    }
+
+    public Map<String, DataSource> asMap() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    public DataSource defaultDataSource() {
+        return dataSources.values().iterator().next();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        dataSources.values().stream()
+                .filter(dataSource -> dataSource.getMetricsTrackerFactory() == null)
+                .forEach(dataSource -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
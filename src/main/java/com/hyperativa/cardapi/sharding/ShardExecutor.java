@@ -0,0 +1,86 @@
+package com.hyperativa.cardapi.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Divide operações em lote por shard e executa cada parte com o {@link ShardContext} do shard.
+ * Com mais de um shard, as partes rodam em paralelo; com um só, rodam na thread chamadora.
+ */
+@Component
+@Slf4j
+public class ShardExecutor implements DisposableBean {
+
+    private final ShardRouter shardRouter;
+    private final ExecutorService executor;
+
+    public ShardExecutor(ShardRouter shardRouter, ShardingProperties properties) {
+        this.shardRouter = shardRouter;
+        if (shardRouter.isSharded()) {
+            AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(properties.getParallelism(), runnable -> {
+                Thread thread = new Thread(runnable, "shard-worker-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Aplica {@code work} aos itens de cada shard e concatena os resultados (ordem por shard).
+     */
+    public <T, R> List<R> executeByShard(Collection<T> items, Function<T, String> hashOf,
+                                         Function<List<T>, List<R>> work) {
+        Map<String, List<T>> byShard = shardRouter.partition(items, hashOf);
+
+        if (executor == null || byShard.size() <= 1) {
+            List<R> results = new ArrayList<>(items.size());
+            byShard.forEach((shard, shardItems) -> results.addAll(runOnShard(shard, shardItems, work)));
+            return results;
+        }
+
+        List<CompletableFuture<List<R>>> futures = new ArrayList<>(byShard.size());
+        byShard.forEach((shard, shardItems) -> futures.add(
+                CompletableFuture.supplyAsync(() -> runOnShard(shard, shardItems, work), executor)));
+
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            for (CompletableFuture<List<R>> future : futures) {
+                results.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private <T, R> List<R> runOnShard(String shard, List<T> items, Function<List<T>, List<R>> work) {
+        try (ShardContext.Scope ignored = ShardContext.use(shard)) {
+            return work.apply(items);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.hyperativa.cardapi.sharding;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Mapeia o hash do cartão para um shard usando os bits iniciais do hash como slot.
+ * Com o sharding desativado, todo hash pertence ao shard único {@link #DEFAULT_SHARD}.
+ */
+@Component
+public class ShardRouter {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private static final int MAX_PREFIX_BITS = 16;
+
+    private final int prefixBits;
+    private final String[] shardBySlot;
+    private final List<String> shardNames;
+
+    public ShardRouter(ShardingProperties properties) {
+        if (!properties.isEnabled() || properties.getShards().isEmpty()) {
+            this.prefixBits = 0;
+            this.shardBySlot = new String[]{DEFAULT_SHARD};
+            this.shardNames = List.of(DEFAULT_SHARD);
+            return;
+        }
+        if (properties.getPrefixBits() < 1 || properties.getPrefixBits() > MAX_PREFIX_BITS) {
+            throw new IllegalStateException("card.sharding.prefix-bits must be between 1 and " + MAX_PREFIX_BITS);
+        }
+        this.prefixBits = properties.getPrefixBits();
+        this.shardBySlot = new String[1 << prefixBits];
+        List<String> names = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            names.add(shard.getName());
+            if (shard.getFrom() == null && shard.getTo() == null) {
+                continue;
+            }
+            if (shard.getFrom() == null || shard.getTo() == null || shard.getFrom() < 0 || shard.getTo() >= shardBySlot.length || shard.getFrom() > shard.getTo()) {
+                throw new IllegalStateException("Invalid slot range for shard " + shard.getName());
+            }
+            for (int slot = shard.getFrom(); slot <= shard.getTo(); slot++) {
+                if (shardBySlot[slot] != null) {
+                    throw new IllegalStateException("Slot " + slot + " assigned to both "
+                            + shardBySlot[slot] + " and " + shard.getName());
+                }
+                shardBySlot[slot] = shard.getName();
+            }
+        }
+        for (int slot = 0; slot < shardBySlot.length; slot++) {
+            if (shardBySlot[slot] == null) {
+                throw new IllegalStateException("Slot " + slot + " is not assigned to any shard");
+            }
+        }
+        this.shardNames = List.copyOf(names);
+    }
+
+    public int getPrefixBits() {
+        return prefixBits;
+    }
+
+    public List<String> getShardNames() {
+        return shardNames;
+    }
+
+    public boolean isSharded() {
+        return shardNames.size() > 1;
+    }
+
+    /**
+     * Slot do hash: os primeiros {@code prefixBits} bits dos 4 primeiros dígitos hexadecimais.
+     */
+    public int slotOf(String cardHash) {
+        if (prefixBits == 0) {
+            return 0;
+        }
+        int leading16Bits = Integer.parseInt(cardHash.substring(0, 4), 16);
+        return leading16Bits >>> (MAX_PREFIX_BITS - prefixBits);
+    }
+
+    public String shardFor(String cardHash) {
+        return shardBySlot[slotOf(cardHash)];
+    }
+
+    /**
+     * Agrupa os itens por shard, preservando a ordem relativa dentro de cada grupo.
+     */
+    public <T> Map<String, List<T>> partition(Collection<T> items, Function<T, String> hashOf) {
+        Map<String, List<T>> byShard = new LinkedHashMap<>();
+        for (T item : items) {
+            byShard.computeIfAbsent(shardFor(hashOf.apply(item)), k -> new ArrayList<>()).add(item);
+        }
+        return byShard;
+    }
+
+    /**
+     * Menor prefixo hexadecimal (4 dígitos) de um hash que cai no slot informado.
+     * Útil para filtrar faixas de slots por intervalo de card_hash.
+     */
+    public String hashLowerBound(int slot) {
+        return String.format("%04x", slot << (MAX_PREFIX_BITS - prefixBits));
+    }
+}
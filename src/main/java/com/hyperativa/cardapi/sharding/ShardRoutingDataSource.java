@@ -0,0 +1,16 @@
+package com.hyperativa.cardapi.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Escolhe o DataSource do shard definido em {@link ShardContext}.
+ * Como a chave é lida ao obter a conexão, deve ser envolvido por um LazyConnectionDataSourceProxy
+ * para que o shard possa ser definido depois do início da transação.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,165 @@
+package com.hyperativa.cardapi.sharding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ferramenta de resharding: divide a faixa de slots de um shard, movendo a metade superior
+ * (a partir de {@code at}) para outro shard. Executada uma vez e encerra a aplicação:
+ * <pre>
+ * java -jar card-api.jar --spring.main.web-application-type=none \
+ *     --card.sharding.split.source=shard0 --card.sharding.split.target=shard2 --card.sharding.split.at=64
+ * </pre>
+ * O destino pode ser um shard declarado sem faixa ({@code from}/{@code to} omitidos) ou o shard cuja faixa
+ * começa logo após a do origem. Cada página copiada com INSERT IGNORE é conferida no destino e só então
+ * removida da origem pelos ids copiados; a operação pode ser reexecutada. Pare a ingestão da faixa movida
+ * durante a operação e, ao final, aplique a nova configuração de faixas exibida no log.
+ */
+@Component
+@ConditionalOnProperty(name = "card.sharding.split.target")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardSplitTool implements ApplicationRunner {
+
+    private static final String SELECT_RANGE_SQL =
+            "SELECT id, card_hash, encrypted_card_number, batch_number, sequence_number, created_at, updated_at " +
+            "FROM cards WHERE card_hash > ? AND card_hash >= ?%s ORDER BY card_hash LIMIT ?";
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO cards (id, card_hash, encrypted_card_number, batch_number, sequence_number, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_COPIED_SQL = "SELECT COUNT(*) FROM cards WHERE card_hash IN (%s)";
+    private static final String DELETE_COPIED_SQL = "DELETE FROM cards WHERE id IN (%s)";
+    private static final String COUNT_RANGE_SQL = "SELECT COUNT(*) FROM cards WHERE card_hash >= ?%s";
+
+    private final ShardingProperties properties;
+    private final ShardRouter shardRouter;
+    private final ShardDataSources shardDataSources;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${card.sharding.split.source}")
+    private String sourceShard;
+
+    @Value("${card.sharding.split.target}")
+    private String targetShard;
+
+    @Value("${card.sharding.split.at}")
+    private int splitSlot;
+
+    @Value("${card.sharding.split.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        split();
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    /**
+     * Move os slots {@code at..to} do shard de origem para o destino e retorna a quantidade de cartões movidos.
+     */
+    long split() {
+        ShardingProperties.Shard source = findShard(sourceShard);
+        ShardingProperties.Shard target = findShard(targetShard);
+        if (source.getFrom() == null || splitSlot <= source.getFrom() || splitSlot > source.getTo()) {
+            throw new IllegalArgumentException("Split slot must be in (" + source.getFrom() + ", " + source.getTo() + "]");
+        }
+        // A faixa do destino precisa continuar contígua após receber os slots movidos
+        if (target.getFrom() != null && target.getFrom() != source.getTo() + 1) {
+            throw new IllegalArgumentException("Target shard " + targetShard + " must have no slots or start at slot "
+                    + (source.getTo() + 1));
+        }
+        int targetTo = target.getTo() != null ? target.getTo() : source.getTo();
+
+        int slotCount = 1 << shardRouter.getPrefixBits();
+        String lowerBound = shardRouter.hashLowerBound(splitSlot);
+        // A última faixa não tem limite superior
+        String upperBound = source.getTo() + 1 < slotCount ? shardRouter.hashLowerBound(source.getTo() + 1) : null;
+
+        JdbcTemplate sourceJdbc = new JdbcTemplate(shardDataSources.get(sourceShard));
+        JdbcTemplate targetJdbc = new JdbcTemplate(shardDataSources.get(targetShard));
+
+        log.info("Splitting {} slots {}-{} into {}", sourceShard, splitSlot, source.getTo(), targetShard);
+        long moved = moveRange(sourceJdbc, targetJdbc, lowerBound, upperBound);
+
+        long remaining = count(sourceJdbc, lowerBound, upperBound);
+        if (remaining > 0) {
+            log.warn("{} rows were written to the moved range during the split and are still in {}; "
+                    + "pause ingestion and run the tool again", remaining, sourceShard);
+        }
+        log.info("Split finished: {} rows moved from {} to {}", moved, sourceShard, targetShard);
+        log.info("New ranges: {} from={} to={}; {} from={} to={}",
+                sourceShard, source.getFrom(), splitSlot - 1, targetShard, splitSlot, targetTo);
+        return moved;
+    }
+
+    private ShardingProperties.Shard findShard(String name) {
+        return properties.getShards().stream()
+                .filter(shard -> shard.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown shard: " + name));
+    }
+
+    /**
+     * Copia a faixa página a página. Cada página só é removida da origem, pelos ids lidos, depois de
+     * conferida no destino: cartões gravados na origem durante a cópia nunca são apagados sem terem sido copiados.
+     */
+    private long moveRange(JdbcTemplate sourceJdbc, JdbcTemplate targetJdbc, String lowerBound, String upperBound) {
+        String sql = String.format(SELECT_RANGE_SQL, upperBound != null ? " AND card_hash < ?" : "");
+        String lastHash = "";
+        long moved = 0;
+        while (true) {
+            List<Object> params = new ArrayList<>(List.of(lastHash, lowerBound));
+            if (upperBound != null) {
+                params.add(upperBound);
+            }
+            params.add(batchSize);
+
+            List<Object[]> rows = sourceJdbc.query(sql, (rs, rowNum) -> new Object[]{
+                    rs.getLong("id"),
+                    rs.getString("card_hash"),
+                    rs.getString("encrypted_card_number"),
+                    rs.getString("batch_number"),
+                    rs.getObject("sequence_number"),
+                    rs.getTimestamp("created_at"),
+                    rs.getTimestamp("updated_at")
+            }, params.toArray());
+            if (rows.isEmpty()) {
+                return moved;
+            }
+            targetJdbc.batchUpdate(INSERT_IGNORE_SQL, rows);
+
+            // INSERT IGNORE também descarta linhas cujo id já existe no destino com outro cartão
+            String placeholders = String.join(", ", Collections.nCopies(rows.size(), "?"));
+            Long copied = targetJdbc.queryForObject(String.format(SELECT_COPIED_SQL, placeholders), Long.class,
+                    rows.stream().map(row -> row[1]).toArray());
+            if (copied == null || copied != rows.size()) {
+                throw new IllegalStateException("Copy verification failed: " + copied + " of " + rows.size()
+                        + " rows found in " + targetShard + " after hash " + lastHash);
+            }
+            sourceJdbc.update(String.format(DELETE_COPIED_SQL, placeholders), rows.stream().map(row -> row[0]).toArray());
+
+            moved += rows.size();
+            lastHash = (String) rows.get(rows.size() - 1)[1];
+            log.info("Moved {} rows so far", moved);
+        }
+    }
+
+    private long count(JdbcTemplate jdbc, String lowerBound, String upperBound) {
+        String sql = String.format(COUNT_RANGE_SQL, upperBound != null ? " AND card_hash < ?" : "");
+        Object[] params = upperBound != null ? new Object[]{lowerBound, upperBound} : new Object[]{lowerBound};
+        Long count = jdbc.queryForObject(sql, Long.class, params);
+        return count != null ? count : 0;
+    }
+}
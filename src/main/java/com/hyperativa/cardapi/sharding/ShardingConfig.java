@@ -0,0 +1,54 @@
+package com.hyperativa.cardapi.sharding;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "card.sharding.enabled", havingValue = "true")
+    public ShardDataSources shardDataSources(ShardingProperties properties, DataSourceProperties dataSourceProperties) {
+        return new ShardDataSources(properties, dataSourceProperties.determineDriverClassName());
+    }
+
+    /**
+     * Um pool por shard, ativado com card.sharding.enabled=true. Sem shard no {@link ShardContext}
+     * (ex.: tabelas que não são de cartões), a conexão vai para o primeiro shard.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "card.sharding.enabled", havingValue = "true")
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(new HashMap<>(shardDataSources.asMap()));
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.defaultDataSource());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Aplica as migrações em todos os shards, não apenas no shard padrão.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "card.sharding.enabled", havingValue = "true")
+    public FlywayMigrationStrategy shardedFlywayMigrationStrategy(ShardDataSources shardDataSources) {
+        return flyway -> shardDataSources.asMap().values().forEach(dataSource ->
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(dataSource)
+                        .load()
+                        .migrate());
+    }
+}
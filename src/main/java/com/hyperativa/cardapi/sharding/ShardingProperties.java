@@ -0,0 +1,34 @@
+package com.hyperativa.cardapi.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "card.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    // Quantidade fixa de bits iniciais do hash (SHA-256) usada como slot: 2^prefixBits slots
+    private int prefixBits = 8;
+
+    // Threads usadas para executar operações em lote em paralelo entre os shards
+    private int parallelism = 4;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        // Faixa de slots (inclusiva) atendida por este shard; sem faixa, o shard não recebe cartões
+        // (ex.: destino de um split ainda não aplicado)
+        private Integer from;
+        private Integer to;
+    }
+}
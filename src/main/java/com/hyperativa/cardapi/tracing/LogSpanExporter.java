@@ -0,0 +1,47 @@
+package com.hyperativa.cardapi.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Exporta os spans como linhas JSON no logger "traces", sem coletor externo: o trace de um upload
+ * pode ser remontado filtrando pelo traceId (o mesmo que aparece no MDC dos logs).
+ */
+public class LogSpanExporter implements SpanExporter {
+
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("traces");
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+            TRACE_LOG.info("Span {} {} {} {} {} {} {}", kv("traceId", span.getTraceId()),
+                    kv("spanId", span.getSpanId()), kv("parentSpanId", span.getParentSpanId()),
+                    kv("name", span.getName()), kv("status", span.getStatus().getStatusCode()),
+                    kv("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos())),
+                    kv("attributes", attributes));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,31 @@
+package com.hyperativa.cardapi.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.function.Supplier;
+
+/**
+ * Atalho para medir um trecho como span filho do span corrente. Sem span corrente (ex.: chamada
+ * gRPC ou job fora de um trace) o trecho roda sem span, em vez de abrir um trace avulso.
+ */
+public final class Spans {
+
+    private Spans() {
+    }
+
+    public static <T> T inSpan(Tracer tracer, String name, Supplier<T> work) {
+        if (tracer.currentSpan() == null) {
+            return work.get();
+        }
+        Span span = tracer.nextSpan().name(name).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return work.get();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hyperativa.cardapi.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Tempo acumulado por etapa (card.hash, card.encrypt, card.persist) dos cartões de um chunk, na thread corrente.
+ * Vira atributos do span do chunk: um arquivo de 1M de linhas gera poucos spans, e não um por cartão e etapa.
+ */
+public final class StageTimings implements AutoCloseable {
+
+    private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> nanosByStage = new LinkedHashMap<>();
+
+    private StageTimings() {
+    }
+
+    /**
+     * Passa a acumular as etapas executadas nesta thread até o {@link #close()}.
+     */
+    public static StageTimings start() {
+        StageTimings timings = new StageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Executa a etapa somando a duração ao acumulador corrente; sem acumulador, só executa.
+     */
+    public static <T> T time(String stage, Supplier<T> work) {
+        StageTimings timings = CURRENT.get();
+        if (timings == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            timings.nanosByStage.merge(stage, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    public Map<String, Long> getNanosByStage() {
+        return nanosByStage;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+}
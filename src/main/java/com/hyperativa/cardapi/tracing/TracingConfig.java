@@ -0,0 +1,20 @@
+package com.hyperativa.cardapi.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Exportador em processo: o Spring Boot envia a ele (via BatchSpanProcessor) os spans amostrados
+     * segundo management.tracing.sampling.probability.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "card.tracing.log-exporter.enabled", havingValue = "true", matchIfMissing = true)
+    public SpanExporter logSpanExporter() {
+        return new LogSpanExporter();
+    }
+}
@@ -0,0 +1,14 @@
+-- Esquema inicial da tabela cards, equivalente ao gerado anteriormente pelo ddl-auto.
+-- Bancos já existentes recebem baseline nesta versão (spring.flyway.baseline-on-migrate).
+CREATE TABLE IF NOT EXISTS cards (
+    id                    BIGINT      NOT NULL AUTO_INCREMENT,
+    batch_number          VARCHAR(10),
+    card_hash             VARCHAR(64) NOT NULL,
+    created_at            DATETIME(6) NOT NULL,
+    encrypted_card_number TEXT        NOT NULL,
+    sequence_number       INT,
+    updated_at            DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_cards_card_hash UNIQUE (card_hash),
+    INDEX idx_card_hash (card_hash)
+) ENGINE = InnoDB;
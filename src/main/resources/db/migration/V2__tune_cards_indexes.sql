@@ -0,0 +1,23 @@
+-- A chave única em card_hash já é covering para hash -> id: no InnoDB todo índice secundário
+-- carrega a chave primária. Os índices não-únicos em card_hash são redundantes.
+SET @drop_idx_card_hash = (
+    SELECT IF(COUNT(*) > 0, 'ALTER TABLE cards DROP INDEX idx_card_hash', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'cards' AND index_name = 'idx_card_hash');
+PREPARE stmt FROM @drop_idx_card_hash;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @drop_idx_card_hash_id = (
+    SELECT IF(COUNT(*) > 0, 'ALTER TABLE cards DROP INDEX idx_card_hash_id', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'cards' AND index_name = 'idx_card_hash_id');
+PREPARE stmt FROM @drop_idx_card_hash_id;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- IDs são gerados pela aplicação (TimeOrderedIdGenerator); AUTO_INCREMENT não é mais usado
+ALTER TABLE cards MODIFY id BIGINT NOT NULL;
+
+-- Consultas e exportação por lote percorrem (batch_number, id) sem varrer a tabela
+CREATE INDEX idx_cards_batch_number ON cards (batch_number, id);
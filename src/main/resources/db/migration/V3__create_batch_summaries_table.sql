@@ -0,0 +1,14 @@
+-- Estatísticas por lote mantidas durante a ingestão, para não contar linhas na tabela cards.
+CREATE TABLE IF NOT EXISTS batch_summaries (
+    batch_number    VARCHAR(10) NOT NULL,
+    declared_count  INT,
+    trailer_count   INT,
+    inserted_count  BIGINT      NOT NULL DEFAULT 0,
+    duplicate_count BIGINT      NOT NULL DEFAULT 0,
+    rejected_count  BIGINT      NOT NULL DEFAULT 0,
+    started_at      DATETIME(6),
+    completed_at    DATETIME(6),
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (batch_number)
+) ENGINE = InnoDB;
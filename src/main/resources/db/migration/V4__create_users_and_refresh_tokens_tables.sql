@@ -0,0 +1,30 @@
+-- Usuários da API (antes fixos em memória) e refresh tokens emitidos no login.
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    username      VARCHAR(50)  NOT NULL,
+    password_hash VARCHAR(100) NOT NULL,
+    roles         VARCHAR(255) NOT NULL,
+    enabled       BIT          NOT NULL DEFAULT 1,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+-- Apenas o SHA-256 do refresh token é guardado; o token em si só existe no cliente.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash CHAR(64)    NOT NULL,
+    username   VARCHAR(50) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_tokens_username (username, expires_at)
+) ENGINE = InnoDB;
+
+-- Usuários padrão (senhas admin123, register123, query123), com hash BCrypt pré-calculado.
+INSERT IGNORE INTO users (username, password_hash, roles, enabled, created_at) VALUES
+    ('admin', '$2a$10$MXQ/JBhfUk4sKcEVqiZGr.Qu7zuuBweRpZKykeDBAIXdEQBsiEiC.', 'CARD_REGISTER,CARD_QUERY,CARD_EXPORT', 1, NOW(6)),
+    ('register', '$2a$10$RZ9ZtklDzlcLTE97M9q9BeuvkU51tBTdl.KxukjmGBN/iWDnOldta', 'CARD_REGISTER', 1, NOW(6)),
+    ('query', '$2a$10$3LBTVtCZGAh5mjE9mAwB6eKx96k9b84aZgoFSygP5MPv7D1uv5aL.', 'CARD_QUERY', 1, NOW(6));
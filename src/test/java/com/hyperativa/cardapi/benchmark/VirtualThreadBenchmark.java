@@ -0,0 +1,133 @@
+package com.hyperativa.cardapi.benchmark;
+
+import com.hyperativa.cardapi.CardApiApplication;
+import com.hyperativa.cardapi.config.VirtualThreads;
+import com.hyperativa.cardapi.loadtest.CardFileGenerator;
+import com.hyperativa.cardapi.service.CardService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compara o pool fixo de platform threads (como o Tomcat padrão, 200 threads) com uma virtual
+ * thread por requisição no caminho real de cadastro + consulta ({@link CardService}): hash,
+ * criptografia, insert-if-absent e SELECT por hash, pelo Hikari e pelo driver JDBC configurados.
+ * <p>
+ * Sobe o contexto no perfil de teste (H2 em modo MySQL, porta HTTP aleatória); argumentos {@code --chave=valor}
+ * vão para o Spring, o que permite medir contra um MySQL. Com {@code -Djdk.tracePinnedThreads=full}
+ * (JDK 21+) a JVM imprime a pilha de cada virtual thread presa à thread carregadora.
+ * Não roda no mvn test (não termina em Test). Para executar:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Djdk.tracePinnedThreads=full -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.hyperativa.cardapi.benchmark.VirtualThreadBenchmark [requisições] [threadsPlataforma] \
+ *     [--spring.datasource.url=jdbc:mysql://localhost:3306/carddb?useAffectedRows=true ...]
+ * </pre>
+ */
+public class VirtualThreadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        List<String> positional = new ArrayList<>();
+        // Padrões do benchmark, sobrescritos por argumentos --chave=valor iguais
+        Map<String, String> springArgs = new LinkedHashMap<>(Map.of(
+                "server.port", "0", "management.server.port", "0",
+                "spring.jpa.show-sql", "false", "logging.level.root", "WARN"));
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int separator = arg.indexOf('=');
+                springArgs.put(arg.substring(2, separator > 0 ? separator : arg.length()),
+                        separator > 0 ? arg.substring(separator + 1) : "");
+            } else {
+                positional.add(arg);
+            }
+        }
+        int requests = positional.size() > 0 ? Integer.parseInt(positional.get(0)) : 20_000;
+        int platformThreads = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : 200;
+
+        // Processo único gerando IDs de cartão
+        System.getProperties().putIfAbsent("card.single-node", "true");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CardApiApplication.class)
+                .profiles("test")
+                .run(springArgs.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new))) {
+            CardService cardService = context.getBean(CardService.class);
+            CardFileGenerator generator = new CardFileGenerator(System.nanoTime(), 0.0);
+            System.out.printf("requests=%d platformThreads=%d cpus=%d datasource=%s%n",
+                    requests, platformThreads, Runtime.getRuntime().availableProcessors(),
+                    context.getEnvironment().getProperty("spring.datasource.url"));
+
+            // Aquecimento do JIT, do pool de encryptors e do Hikari
+            run("warmup", Executors.newFixedThreadPool(platformThreads), cardService, generator, 2_000);
+
+            run("platform", Executors.newFixedThreadPool(platformThreads), cardService, generator, requests);
+            if (VirtualThreads.isSupported()) {
+                run("virtual", VirtualThreads.newThreadPerTaskExecutor("bench-vt-"), cardService, generator, requests);
+            } else {
+                System.out.println("virtual: skipped, requires JDK 21+ (running on " + Runtime.version() + ")");
+            }
+        }
+    }
+
+    private static void run(String label, ExecutorService executor, CardService cardService,
+                            CardFileGenerator generator, int requests) throws InterruptedException {
+        String[] cardNumbers = new String[requests];
+        for (int i = 0; i < requests; i++) {
+            cardNumbers[i] = generator.nextPan();
+        }
+        long[] latencies = new long[requests];
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    cardService.registerCard(cardNumbers[index], "BENCH", index);
+                    if (!cardService.checkCard(cardNumbers[index]).isExists()) {
+                        failures.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    inFlight.decrementAndGet();
+                    // Inclui o tempo na fila do executor, como o cliente enxergaria
+                    latencies[index] = System.nanoTime() - submittedAt;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        Arrays.sort(latencies);
+        System.out.printf("%-8s throughput=%8.0f req/s  maxInFlight=%6d  failures=%d  p50=%7.1fms  p99=%7.1fms  max=%7.1fms%n",
+                label,
+                requests / (elapsed / 1e9),
+                maxInFlight.get(),
+                failures.get(),
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,107 @@
+package com.hyperativa.cardapi.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoggingInterceptor Unit Tests")
+class LoggingInterceptorTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access");
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        appender = new ListAppender<>();
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    private void perform(LoggingInterceptor interceptor, int status, Exception ex) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/cards/check");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), ex);
+    }
+
+    @Test
+    @DisplayName("Deve registrar uma linha estruturada por requisição - Cenário Feliz")
+    void testAfterCompletion_LogsOneLine() {
+        // Given
+        LoggingInterceptor interceptor = new LoggingInterceptor(1.0, Duration.ofSeconds(1));
+
+        // When
+        perform(interceptor, 200, null);
+
+        // Then
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("method=POST"));
+        assertTrue(message.contains("uri=/api/cards/check"));
+        assertTrue(message.contains("status=200"));
+        assertTrue(message.contains("durationMs="));
+        assertTrue(message.contains("remoteAddr="));
+    }
+
+    @Test
+    @DisplayName("Deve omitir sucessos fora da amostra - Cenário Feliz")
+    void testAfterCompletion_SamplesSuccess() {
+        // Given
+        LoggingInterceptor interceptor = new LoggingInterceptor(0.0, Duration.ofSeconds(1));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            perform(interceptor, 200, null);
+        }
+
+        // Then
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve sempre registrar erros e exceções - Cenário Triste")
+    void testAfterCompletion_AlwaysLogsFailures() {
+        // Given
+        LoggingInterceptor interceptor = new LoggingInterceptor(0.0, Duration.ofSeconds(1));
+
+        // When
+        perform(interceptor, 429, null);
+        perform(interceptor, 500, new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(2, appender.list.size());
+        assertEquals("ERROR", appender.list.get(1).getLevel().toString());
+        assertTrue(appender.list.get(1).getFormattedMessage().contains("error=boom"));
+    }
+
+    @Test
+    @DisplayName("Deve sempre registrar requisições lentas - Cenário Triste")
+    void testAfterCompletion_AlwaysLogsSlow() {
+        // Given
+        LoggingInterceptor interceptor = new LoggingInterceptor(0.0, Duration.ZERO);
+
+        // When
+        perform(interceptor, 200, null);
+
+        // Then
+        assertEquals(1, appender.list.size());
+    }
+}
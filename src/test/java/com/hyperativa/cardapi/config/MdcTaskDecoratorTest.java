@@ -0,0 +1,59 @@
+package com.hyperativa.cardapi.config;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MdcTaskDecorator Unit Tests")
+class MdcTaskDecoratorTest {
+
+    private static final ContextKey<String> KEY = ContextKey.named("test");
+
+    @Test
+    @DisplayName("Deve levar MDC e contexto de tracing para a thread do @Async - Cenário Feliz")
+    void testDecorate_PropagatesMdcAndTraceContext() throws Exception {
+        // Given
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<String> traceValue = new AtomicReference<>();
+        Runnable decorated;
+        MDC.put(RequestIdFilter.MDC_KEY, "abc123");
+        try (Scope ignored = Context.current().with(KEY, "span-1").makeCurrent()) {
+            decorated = new MdcTaskDecorator().decorate(() -> {
+                requestId.set(MDC.get(RequestIdFilter.MDC_KEY));
+                traceValue.set(Context.current().get(KEY));
+            });
+        } finally {
+            MDC.clear();
+        }
+
+        // When
+        CompletableFuture.runAsync(decorated).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("abc123", requestId.get());
+        assertEquals("span-1", traceValue.get());
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o contexto da thread após a tarefa - Cenário Feliz")
+    void testDecorate_RestoresContext() {
+        // Given
+        Runnable decorated = new MdcTaskDecorator().decorate(() -> MDC.put("other", "value"));
+
+        // When
+        decorated.run();
+
+        // Then
+        assertNull(MDC.get("other"));
+        assertNull(Context.current().get(KEY));
+    }
+}
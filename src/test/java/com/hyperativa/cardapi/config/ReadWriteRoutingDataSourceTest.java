@@ -0,0 +1,68 @@
+package com.hyperativa.cardapi.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteRoutingDataSource Unit Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @InjectMocks
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Deve rotear transação read-only para a réplica - Cenário Feliz")
+    void testReadOnlyTransaction_RoutesToReplica() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+
+        // When
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, key);
+    }
+
+    @Test
+    @DisplayName("Deve rotear transação de escrita para o primário - Cenário Feliz")
+    void testWriteTransaction_RoutesToPrimary() {
+        // When
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, key);
+        verify(replicaLagMonitor, never()).isReplicaUsable();
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário quando a réplica está atrasada - Cenário Triste")
+    void testReadOnlyTransaction_ReplicaLagging_RoutesToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+
+        // When
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, key);
+    }
+}
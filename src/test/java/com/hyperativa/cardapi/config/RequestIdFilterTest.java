@@ -0,0 +1,84 @@
+package com.hyperativa.cardapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestIdFilter Unit Tests")
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    @DisplayName("Deve gerar id, devolver no header e manter no MDC durante a requisição - Cenário Feliz")
+    void testFilter_GeneratesId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> idInChain = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> idInChain.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        // Then
+        String requestId = response.getHeader(RequestIdFilter.HEADER);
+        assertNotNull(requestId);
+        assertTrue(requestId.matches("[0-9a-f]{16}"));
+        assertEquals(requestId, idInChain.get());
+        assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o X-Request-Id recebido - Cenário Feliz")
+    void testFilter_PropagatesIncomingId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER, "gateway-123.abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertEquals("gateway-123.abc", response.getHeader(RequestIdFilter.HEADER));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar X-Request-Id inválido - Cenário Triste")
+    void testFilter_RejectsInvalidIncomingId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER, "bad id\n{\"forged\":true}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertTrue(response.getHeader(RequestIdFilter.HEADER).matches("[0-9a-f]{16}"));
+    }
+
+    @Test
+    @DisplayName("Deve levar o MDC para a thread do @Async - Cenário Feliz")
+    void testMdcTaskDecorator() throws Exception {
+        // Given
+        AtomicReference<String> idInTask = new AtomicReference<>();
+        MDC.put(RequestIdFilter.MDC_KEY, "abc");
+        Runnable task = new MdcTaskDecorator().decorate(() -> idInTask.set(MDC.get(RequestIdFilter.MDC_KEY)));
+        MDC.clear();
+
+        // When
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        // Then
+        assertEquals("abc", idInTask.get());
+    }
+}
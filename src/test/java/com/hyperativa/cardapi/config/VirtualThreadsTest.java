@@ -0,0 +1,38 @@
+package com.hyperativa.cardapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+@DisplayName("VirtualThreads Unit Tests")
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("Deve executar tarefas em virtual threads nomeadas no JDK 21+ - Cenário Feliz")
+    void testNewThreadPerTaskExecutor_Supported() throws Exception {
+        // Given
+        assumeTrue(VirtualThreads.isSupported());
+
+        // When
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-vt-");
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+        executor.shutdown();
+
+        // Then
+        assertEquals("test-vt-0", threadName);
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao criar executor em JDK sem virtual threads - Cenário Triste")
+    void testNewThreadPerTaskExecutor_Unsupported() {
+        // Given
+        assumeFalse(VirtualThreads.isSupported());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> VirtualThreads.newThreadPerTaskExecutor("test-vt-"));
+    }
+}
@@ -4,6 +4,9 @@ import com.hyperativa.cardapi.dto.CardCheckRequest;
 import com.hyperativa.cardapi.dto.CardCheckResponse;
 import com.hyperativa.cardapi.dto.CardRegisterRequest;
 import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.ratelimit.RateLimiter;
+import com.hyperativa.cardapi.service.CardBatchService;
+import com.hyperativa.cardapi.service.CardExportService;
 import com.hyperativa.cardapi.service.CardService;
 import com.hyperativa.cardapi.service.FileProcessingService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,16 +16,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -33,9 +43,18 @@ class CardControllerTest {
     @Mock
     private CardService cardService;
 
+    @Mock
+    private CardBatchService cardBatchService;
+
     @Mock
     private FileProcessingService fileProcessingService;
 
+    @Mock
+    private CardExportService cardExportService;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
     @InjectMocks
     private CardController cardController;
 
@@ -154,6 +173,45 @@ class CardControllerTest {
         verify(cardService).checkCard(anyString());
     }
 
+    @Test
+    @DisplayName("Deve cadastrar cartões em lote com resultado por item - Cenário Feliz")
+    void testRegisterCardsBatch_Success() {
+        // Given
+        CardRegisterRequest invalidRequest = new CardRegisterRequest();
+        invalidRequest.setCardNumber("ABC");
+        List<CardRegisterResponse> responses = List.of(
+                CardRegisterResponse.builder().id(1L).message("Card registered successfully").alreadyExists(false).build(),
+                CardRegisterResponse.builder().message("Card rejected").error("Card number must contain only digits").build()
+        );
+        when(cardBatchService.registerCards(anyList())).thenReturn(responses);
+
+        // When
+        ResponseEntity<List<CardRegisterResponse>> result =
+                cardController.registerCardsBatch(List.of(registerRequest, invalidRequest), new MockHttpServletRequest());
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNotNull(result.getBody());
+        assertEquals(2, result.getBody().size());
+        assertEquals(1L, result.getBody().get(0).getId());
+        assertEquals("Card number must contain only digits", result.getBody().get(1).getError());
+        verify(rateLimiter).acquireItems(any(), eq(2L));
+        verify(cardBatchService).registerCards(anyList());
+        verify(cardService, never()).registerCard(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote com corpo nulo - Cenário Triste")
+    void testRegisterCardsBatch_NullBody() {
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> cardController.registerCardsBatch(null, new MockHttpServletRequest()));
+
+        // Then
+        assertEquals("Request must contain at least one card", exception.getMessage());
+        verifyNoInteractions(rateLimiter, cardBatchService);
+    }
+
     @Test
     @DisplayName("Deve processar arquivo com sucesso - Cenário Feliz")
     void testRegisterCardsFromFile_Success() {
@@ -241,4 +299,29 @@ class CardControllerTest {
         });
         verify(fileProcessingService).processFile(any());
     }
+
+    @Test
+    @DisplayName("Deve exportar lote em streaming - Cenário Feliz")
+    void testExportBatch_Success() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = cardController.exportBatch("LOTE0001", "csv");
+        result.getBody().writeTo(output);
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.parseMediaType("text/csv"), result.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"LOTE0001.csv\"", result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(cardExportService).export("LOTE0001", CardExportService.Format.CSV, output);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar exportação sem número de lote - Cenário Triste")
+    void testExportBatch_BlankBatchNumber() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> cardController.exportBatch(" ", "ndjson"));
+        verifyNoInteractions(cardExportService);
+    }
 }
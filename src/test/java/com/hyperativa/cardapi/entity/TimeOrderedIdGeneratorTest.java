@@ -0,0 +1,95 @@
+package com.hyperativa.cardapi.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedIdGenerator Unit Tests")
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar IDs positivos e crescentes na mesma thread - Cenário Feliz")
+    void testNextId_MonotonicInSameThread() {
+        // Given
+        long previous = TimeOrderedIdGenerator.nextId();
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            long current = TimeOrderedIdGenerator.nextId();
+            assertTrue(current > 0);
+            assertTrue(current > previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs únicos sob concorrência - Cenário Feliz")
+    void testNextId_UniqueUnderConcurrency() throws InterruptedException {
+        // Given
+        int threads = 8;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids.add(TimeOrderedIdGenerator.nextId());
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // When
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Then
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("Deve carregar o mesmo ID de nó em todos os IDs - Cenário Feliz")
+    void testNextId_CarriesNodeId() {
+        // When
+        long first = TimeOrderedIdGenerator.nextId();
+        long second = TimeOrderedIdGenerator.nextId();
+
+        // Then
+        assertEquals(TimeOrderedIdGenerator.nodeIdOf(first), TimeOrderedIdGenerator.nodeIdOf(second));
+        assertTrue(TimeOrderedIdGenerator.nodeIdOf(first) <= TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    @DisplayName("Deve usar o ID de nó configurado - Cenário Feliz")
+    void testResolveNodeId_Configured() {
+        // When & Then
+        assertEquals(7L, TimeOrderedIdGenerator.resolveNodeId(" 7 ", null));
+        assertEquals(0L, TimeOrderedIdGenerator.resolveNodeId(null, "true"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar sem ID de nó fora do modo de nó único - Cenário Triste")
+    void testResolveNodeId_MissingFailsFast() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.resolveNodeId(null, null));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.resolveNodeId(" ", "false"));
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedIdGenerator.resolveNodeId("1024", null));
+    }
+}
@@ -0,0 +1,312 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.dto.CardCheckResponse;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.grpc.proto.CardServiceGrpc;
+import com.hyperativa.cardapi.grpc.proto.CheckCardRequest;
+import com.hyperativa.cardapi.grpc.proto.CheckCardResponse;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardRequest;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardResponse;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardsRequest;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardsResponse;
+import com.hyperativa.cardapi.security.JwtPrincipal;
+import com.hyperativa.cardapi.security.JwtTokenProvider;
+import com.hyperativa.cardapi.service.CardBatchService;
+import com.hyperativa.cardapi.service.CardService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardGrpcService Unit Tests")
+class CardGrpcServiceTest {
+
+    @Mock
+    private CardService cardService;
+
+    @Mock
+    private CardBatchService cardBatchService;
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CardGrpcService service = new CardGrpcService(cardService, cardBatchService,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service, new GrpcAuthInterceptor(tokenProvider)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private CardServiceGrpc.CardServiceBlockingStub blockingStub(String token) {
+        return CardServiceGrpc.newBlockingStub(channel).withInterceptors(bearer(token));
+    }
+
+    private static io.grpc.ClientInterceptor bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer " + token);
+        return MetadataUtils.newAttachHeadersInterceptor(headers);
+    }
+
+    private void givenToken(String token, String... roles) {
+        when(tokenProvider.parse(token)).thenReturn(Optional.of(JwtPrincipal.of("user", List.of(roles), null)));
+    }
+
+    @Test
+    @DisplayName("Deve consultar cartão via gRPC - Cenário Feliz")
+    void testCheckCard_Success() {
+        // Given
+        givenToken("query-token", "CARD_QUERY");
+        when(cardService.checkCard("4456897999999999"))
+                .thenReturn(CardCheckResponse.builder().exists(true).cardId(1L).message("Card found").build());
+
+        // When
+        CheckCardResponse response = blockingStub("query-token").checkCard(CheckCardRequest.newBuilder()
+                .setCardNumber("4456897999999999")
+                .build());
+
+        // Then
+        assertTrue(response.getExists());
+        assertEquals(1L, response.getCardId());
+        assertEquals("Card found", response.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar cartão via gRPC - Cenário Feliz")
+    void testRegisterCard_Success() {
+        // Given
+        givenToken("register-token", "CARD_REGISTER");
+        when(cardService.registerCard("4456897999999999", null, 1)).thenReturn(CardRegisterResponse.builder()
+                .id(10L).message("Card registered successfully").alreadyExists(false).build());
+
+        // When
+        RegisterCardResponse response = blockingStub("register-token").registerCard(RegisterCardRequest.newBuilder()
+                .setCardNumber("4456897999999999")
+                .setSequenceNumber(1)
+                .build());
+
+        // Then
+        assertEquals(10L, response.getId());
+        assertFalse(response.getAlreadyExists());
+        verify(cardService).registerCard("4456897999999999", null, 1);
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar lote via gRPC - Cenário Feliz")
+    void testRegisterCards_Success() {
+        // Given
+        givenToken("register-token", "CARD_REGISTER");
+        when(cardBatchService.registerCards(anyList())).thenReturn(List.of(
+                CardRegisterResponse.builder().id(1L).alreadyExists(false).build(),
+                CardRegisterResponse.builder().message("Card rejected").error("Card number must contain only digits").build()));
+
+        // When
+        RegisterCardsResponse response = blockingStub("register-token").registerCards(RegisterCardsRequest.newBuilder()
+                .addCards(RegisterCardRequest.newBuilder().setCardNumber("4456897999999999"))
+                .addCards(RegisterCardRequest.newBuilder().setCardNumber("44568979ABC"))
+                .build());
+
+        // Then
+        assertEquals(2, response.getResultsCount());
+        assertEquals(1L, response.getResults(0).getId());
+        assertEquals("Card number must contain only digits", response.getResults(1).getError());
+    }
+
+    @Test
+    @DisplayName("Deve responder consultas em pipeline no stream bidirecional - Cenário Feliz")
+    void testCheckCardStream_Pipelined() throws Exception {
+        // Given
+        givenToken("query-token", "CARD_QUERY");
+        when(cardService.checkCard("4456897999999999"))
+                .thenReturn(CardCheckResponse.builder().exists(true).cardId(1L).message("Card found").build());
+        when(cardService.checkCard("4456897922969999"))
+                .thenReturn(CardCheckResponse.builder().exists(false).message("Card not found").build());
+        List<CheckCardResponse> responses = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // When
+        StreamObserver<CheckCardRequest> requests = CardServiceGrpc.newStub(channel)
+                .withInterceptors(bearer("query-token"))
+                .checkCardStream(new StreamObserver<>() {
+                    @Override
+                    public void onNext(CheckCardResponse value) {
+                        responses.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+        requests.onNext(CheckCardRequest.newBuilder().setCardNumber("4456897999999999").setCorrelationId("1").build());
+        requests.onNext(CheckCardRequest.newBuilder().setCardNumber("ABC").setCorrelationId("2").build());
+        requests.onNext(CheckCardRequest.newBuilder().setCardNumber("4456897922969999").setCorrelationId("3").build());
+        requests.onCompleted();
+
+        // Then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(3, responses.size());
+        assertEquals("1", responses.get(0).getCorrelationId());
+        assertTrue(responses.get(0).getExists());
+        assertEquals("2", responses.get(1).getCorrelationId());
+        assertEquals("Card number must contain only digits", responses.get(1).getError());
+        assertEquals("3", responses.get(2).getCorrelationId());
+        assertFalse(responses.get(2).getExists());
+    }
+
+    @Test
+    @DisplayName("Deve seguir respondendo o stream após falha em um item - Cenário Triste")
+    void testCheckCardStream_ItemFailureKeepsStreamOpen() throws Exception {
+        // Given
+        givenToken("query-token", "CARD_QUERY");
+        when(cardService.checkCard("4456897999999999")).thenThrow(new IllegalStateException("database unavailable"));
+        when(cardService.checkCard("4456897922969999"))
+                .thenReturn(CardCheckResponse.builder().exists(true).cardId(2L).message("Card found").build());
+        List<CheckCardResponse> responses = new CopyOnWriteArrayList<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // When
+        StreamObserver<CheckCardRequest> requests = CardServiceGrpc.newStub(channel)
+                .withInterceptors(bearer("query-token"))
+                .checkCardStream(new StreamObserver<>() {
+                    @Override
+                    public void onNext(CheckCardResponse value) {
+                        responses.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        errors.add(t);
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+        requests.onNext(CheckCardRequest.newBuilder().setCardNumber("4456897999999999").setCorrelationId("1").build());
+        requests.onNext(CheckCardRequest.newBuilder().setCardNumber("4456897922969999").setCorrelationId("2").build());
+        requests.onCompleted();
+
+        // Then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertTrue(errors.isEmpty());
+        assertEquals(2, responses.size());
+        assertEquals("1", responses.get(0).getCorrelationId());
+        assertEquals("An unexpected error occurred", responses.get(0).getError());
+        assertEquals("2", responses.get(1).getCorrelationId());
+        assertTrue(responses.get(1).getExists());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cartão inválido via gRPC - Cenário Triste")
+    void testRegisterCard_InvalidCardNumber() {
+        // Given
+        givenToken("register-token", "CARD_REGISTER");
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () ->
+                blockingStub("register-token").registerCard(RegisterCardRequest.newBuilder()
+                        .setCardNumber("44568979ABC")
+                        .build()));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        verifyNoInteractions(cardService);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar consulta de cartão inválido via gRPC - Cenário Triste")
+    void testCheckCard_InvalidCardNumber() {
+        // Given
+        givenToken("query-token", "CARD_QUERY");
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () ->
+                blockingStub("query-token").checkCard(CheckCardRequest.newBuilder()
+                        .setCardNumber("")
+                        .build()));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        assertTrue(exception.getStatus().getDescription().contains("Card number is required"));
+        verifyNoInteractions(cardService);
+    }
+
+    @Test
+    @DisplayName("Deve negar cadastro sem a role CARD_REGISTER - Cenário Triste")
+    void testRegisterCard_PermissionDenied() {
+        // Given
+        givenToken("query-token", "CARD_QUERY");
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () ->
+                blockingStub("query-token").registerCard(RegisterCardRequest.newBuilder()
+                        .setCardNumber("4456897999999999")
+                        .build()));
+
+        // Then
+        assertEquals(Status.Code.PERMISSION_DENIED, exception.getStatus().getCode());
+        verifyNoInteractions(cardService);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chamada sem token - Cenário Triste")
+    void testCheckCard_Unauthenticated() {
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () ->
+                CardServiceGrpc.newBlockingStub(channel).checkCard(CheckCardRequest.newBuilder()
+                        .setCardNumber("4456897999999999")
+                        .build()));
+
+        // Then
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+        verifyNoInteractions(cardService);
+    }
+}
@@ -0,0 +1,265 @@
+package com.hyperativa.cardapi.grpc;
+
+import com.hyperativa.cardapi.dto.CardCheckResponse;
+import com.hyperativa.cardapi.grpc.proto.CardServiceGrpc;
+import com.hyperativa.cardapi.grpc.proto.CheckCardRequest;
+import com.hyperativa.cardapi.grpc.proto.CheckCardResponse;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardRequest;
+import com.hyperativa.cardapi.grpc.proto.RegisterCardsRequest;
+import com.hyperativa.cardapi.ratelimit.AdaptiveConcurrencyLimiter;
+import com.hyperativa.cardapi.ratelimit.ConcurrencyLimitProperties;
+import com.hyperativa.cardapi.ratelimit.ConcurrencyLimiters;
+import com.hyperativa.cardapi.ratelimit.RateLimitProperties;
+import com.hyperativa.cardapi.ratelimit.RateLimiter;
+import com.hyperativa.cardapi.security.JwtPrincipal;
+import com.hyperativa.cardapi.security.JwtTokenProvider;
+import com.hyperativa.cardapi.service.CardBatchService;
+import com.hyperativa.cardapi.service.CardService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("gRPC Rate/Concurrency Limit Interceptors Unit Tests")
+class GrpcRateLimitInterceptorTest {
+
+    @Mock
+    private CardService cardService;
+
+    @Mock
+    private CardBatchService cardBatchService;
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimiters concurrencyLimiters;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties.Rule check = new RateLimitProperties.Rule();
+        check.setName("check");
+        check.setPattern("/api/cards/check/**");
+        check.setGrpcMethods(List.of("CheckCard", "CheckCardStream"));
+        check.setPerUser(limit(2));
+
+        RateLimitProperties.Rule registerBatch = new RateLimitProperties.Rule();
+        registerBatch.setName("register-batch");
+        registerBatch.setPattern("/api/cards/register/batch");
+        registerBatch.setGrpcMethods(List.of("RegisterCards"));
+        registerBatch.setPerItem(true);
+        registerBatch.setPerUser(limit(3));
+
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setRules(List.of(check, registerBatch));
+        ConcurrencyLimitProperties concurrencyProperties = new ConcurrencyLimitProperties();
+        concurrencyProperties.setInitialLimit(1);
+        concurrencyProperties.setMinLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimiters = new ConcurrencyLimiters(concurrencyProperties, meterRegistry);
+
+        CardGrpcService service = new CardGrpcService(cardService, cardBatchService,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service,
+                        new GrpcConcurrencyLimitInterceptor(concurrencyLimiters),
+                        new GrpcRateLimitInterceptor(new RateLimiter(rateLimitProperties, meterRegistry)),
+                        new GrpcAuthInterceptor(tokenProvider)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+
+        when(tokenProvider.parse("token")).thenReturn(Optional.of(
+                JwtPrincipal.of("user", List.of("CARD_QUERY", "CARD_REGISTER"), null)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static RateLimitProperties.Limit limit(long capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(0.001);
+        return limit;
+    }
+
+    private CardServiceGrpc.CardServiceBlockingStub blockingStub() {
+        Metadata headers = new Metadata();
+        headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer token");
+        return CardServiceGrpc.newBlockingStub(channel).withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private static CheckCardRequest checkRequest() {
+        return CheckCardRequest.newBuilder().setCardNumber("4456897999999999").build();
+    }
+
+    private static RegisterCardsRequest registerCardsRequest(int cards) {
+        RegisterCardsRequest.Builder builder = RegisterCardsRequest.newBuilder();
+        for (int i = 0; i < cards; i++) {
+            builder.addCards(RegisterCardRequest.newBuilder().setCardNumber("445689799999999" + i));
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("Deve encerrar com RESOURCE_EXHAUSTED e retry-after acima do limite - Cenário Triste")
+    void testCheckCard_RateLimitExceeded() {
+        // Given
+        when(cardService.checkCard(anyString()))
+                .thenReturn(CardCheckResponse.builder().exists(true).cardId(1L).message("Card found").build());
+        blockingStub().checkCard(checkRequest());
+        blockingStub().checkCard(checkRequest());
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub().checkCard(checkRequest()));
+
+        // Then
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, exception.getStatus().getCode());
+        assertNotNull(exception.getTrailers());
+        assertTrue(Long.parseLong(exception.getTrailers().get(GrpcRateLimitInterceptor.RETRY_AFTER)) >= 1);
+        verify(cardService, times(2)).checkCard(anyString());
+        assertEquals(1.0, meterRegistry.get("http.ratelimit.rejected")
+                .tag("rule", "check").tag("scope", "user").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve cobrar um token por cartão no RegisterCards - Cenário Triste")
+    void testRegisterCards_ChargesPerItem() {
+        // Given
+        when(cardBatchService.registerCards(anyList())).thenReturn(List.of());
+        blockingStub().registerCards(registerCardsRequest(2));
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub().registerCards(registerCardsRequest(2)));
+
+        // Then
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, exception.getStatus().getCode());
+        verify(cardBatchService, times(1)).registerCards(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve recusar RegisterCards acima da capacidade do balde sem retry-after - Cenário Triste")
+    void testRegisterCards_AboveCapacity() {
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub().registerCards(registerCardsRequest(4)));
+
+        // Then
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, exception.getStatus().getCode());
+        assertTrue(exception.getStatus().getDescription().contains("capacity of 3"));
+        assertNull(exception.getTrailers().get(GrpcRateLimitInterceptor.RETRY_AFTER));
+        verify(cardBatchService, never()).registerCards(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve cobrar cada mensagem do stream e encerrá-lo sem tokens - Cenário Triste")
+    void testCheckCardStream_RateLimitExceeded() throws Exception {
+        // Given
+        when(cardService.checkCard(anyString()))
+                .thenReturn(CardCheckResponse.builder().exists(true).cardId(1L).message("Card found").build());
+        List<CheckCardResponse> responses = new CopyOnWriteArrayList<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        Metadata headers = new Metadata();
+        headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer token");
+
+        // When
+        StreamObserver<CheckCardRequest> requests = CardServiceGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .checkCardStream(new StreamObserver<>() {
+                    @Override
+                    public void onNext(CheckCardResponse value) {
+                        responses.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        errors.add(t);
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+        for (int i = 0; i < 3; i++) {
+            requests.onNext(checkRequest());
+        }
+        requests.onCompleted();
+
+        // Then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, responses.size());
+        assertEquals(1, errors.size());
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(errors.get(0)).getCode());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar com UNAVAILABLE sem vaga no limite de concorrência do endpoint - Cenário Triste")
+    void testCheckCard_ConcurrencyLimitReached() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.get("checkCard");
+        assertTrue(limiter.tryAcquire());
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub().checkCard(checkRequest()));
+
+        // Then
+        assertEquals(Status.Code.UNAVAILABLE, exception.getStatus().getCode());
+        verify(cardService, never()).checkCard(anyString());
+        assertEquals(1.0, meterRegistry.get("http.concurrency.rejected")
+                .tag("endpoint", "checkCard").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga de concorrência ao fim da chamada - Cenário Feliz")
+    void testCheckCard_ReleasesConcurrencyPermit() {
+        // Given
+        when(cardService.checkCard(anyString()))
+                .thenReturn(CardCheckResponse.builder().exists(true).cardId(1L).message("Card found").build());
+
+        // When
+        blockingStub().checkCard(checkRequest());
+
+        // Then
+        assertEquals(0, concurrencyLimiters.get("checkCard").getInFlight());
+    }
+}
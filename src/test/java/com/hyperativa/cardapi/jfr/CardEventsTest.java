@@ -0,0 +1,113 @@
+package com.hyperativa.cardapi.jfr;
+
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.repository.CardUpsertResult;
+import com.hyperativa.cardapi.service.CardService;
+import com.hyperativa.cardapi.service.EncryptionService;
+import com.hyperativa.cardapi.sharding.ShardRouter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Card JFR Events Unit Tests")
+class CardEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(Runnable work) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable(CardRegisterEvent.class);
+            recording.enable(CardHashEvent.class);
+            recording.enable(CardCryptoEvent.class);
+            recording.start();
+            work.run();
+            recording.stop();
+            Path file = tempDir.resolve("card-events.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("com.hyperativa.card."))
+                    .toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve emitir eventos de hash e criptografia - Cenário Feliz")
+    void testEncryptionService_EmitsCryptoEvents() throws Exception {
+        // Given
+        EncryptionService encryptionService = new EncryptionService("test-password", 1);
+
+        // When
+        List<RecordedEvent> events = record(() -> {
+            encryptionService.hashCardNumber("4456897999999999");
+            encryptionService.decrypt(encryptionService.encrypt("4456897999999999"));
+        });
+
+        // Then
+        assertEquals(1, events.stream().filter(event -> event.getEventType().getName().equals("com.hyperativa.card.Hash")).count());
+        List<String> operations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.hyperativa.card.Crypto"))
+                .map(event -> event.getString("operation"))
+                .toList();
+        assertEquals(List.of("ENCRYPT", "DECRYPT"), operations);
+        assertTrue(events.stream().allMatch(event -> "OK".equals(event.getString("outcome"))));
+    }
+
+    @Test
+    @DisplayName("Deve emitir evento de cadastro com lote e resultado - Cenário Feliz")
+    void testCardService_EmitsRegisterEvent() throws Exception {
+        // Given
+        CardRepository cardRepository = mock(CardRepository.class);
+        EncryptionService encryptionService = mock(EncryptionService.class);
+        when(encryptionService.hashCardNumber(any())).thenReturn("hash");
+        when(encryptionService.encrypt(any())).thenReturn("encrypted");
+        when(cardRepository.insertIfAbsent(any())).thenReturn(new CardUpsertResult(42L, false));
+        CardService cardService = new CardService(cardRepository, encryptionService, mock(ShardRouter.class));
+
+        // When
+        List<RecordedEvent> events = record(() -> {
+            CardRegisterResponse response = cardService.registerCard("4456897999999999", "LOTE0001", 7);
+            assertTrue(response.getAlreadyExists());
+        });
+
+        // Then
+        RecordedEvent event = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.hyperativa.card.Register"))
+                .findFirst().orElseThrow();
+        assertEquals("LOTE0001", event.getString("batchNumber"));
+        assertEquals(7, event.getInt("sequenceNumber"));
+        assertEquals(42L, event.getLong("cardId"));
+        assertEquals("DUPLICATE", event.getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar falha no evento quando o cadastro lança exceção - Cenário Triste")
+    void testCardService_EmitsFailedOutcome() throws Exception {
+        // Given
+        EncryptionService encryptionService = mock(EncryptionService.class);
+        when(encryptionService.hashCardNumber(any())).thenThrow(new IllegalStateException("boom"));
+        CardService cardService = new CardService(mock(CardRepository.class), encryptionService, mock(ShardRouter.class));
+
+        // When
+        List<RecordedEvent> events = record(() ->
+                assertThrows(IllegalStateException.class, () -> cardService.registerCard("4456897999999999", "LOTE0001", 1)));
+
+        // Then
+        assertEquals(List.of("FAILED"), events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.hyperativa.card.Register"))
+                .map(e -> e.getString("outcome"))
+                .toList());
+    }
+}
@@ -0,0 +1,159 @@
+package com.hyperativa.cardapi.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera arquivos de cartões no layout de posições fixas aceito por {@code FileProcessingService}
+ * (header DESAFIO-HYPERATIVA, linhas C e trailer LOTE), com PANs válidos pelo algoritmo de Luhn.
+ * <p>
+ * A mesma semente gera a mesma sequência de cartões. Com probabilidade {@code duplicateRatio}
+ * cada cartão repete um PAN já gerado (cadastro duplicado); os demais nunca se repetem.
+ * <p>
+ * Não roda no mvn test. Para gerar um arquivo:
+ * <pre>
+ * mvn -q -Pload-test test-compile exec:java -Dexec.mainClass=com.hyperativa.cardapi.loadtest.CardFileGenerator \
+ *     -Dexec.args="target/cards-100k.txt 100000 0.1 42 10000"
+ * </pre>
+ * Argumentos: arquivo, cartões, proporção de duplicados, semente, cartões por lote.
+ */
+public class CardFileGenerator {
+
+    private static final String BIN = "445689";
+    private static final long ACCOUNT_SPACE = 1_000_000_000L; // 9 dígitos de conta após o BIN
+    // Passo coprimo com 10^9: percorre todas as contas antes de repetir
+    private static final long ACCOUNT_STEP = 387_420_489L;
+    private static final int HISTORY_SIZE = 100_000;
+    private static final String FILE_DATE = "20180524";
+
+    private final Random random;
+    private final double duplicateRatio;
+    private final List<String> history = new ArrayList<>();
+    private long account;
+    private long generated;
+
+    public CardFileGenerator(long seed, double duplicateRatio) {
+        if (duplicateRatio < 0 || duplicateRatio >= 1) {
+            throw new IllegalArgumentException("Duplicate ratio must be in [0, 1)");
+        }
+        this.random = new Random(seed);
+        this.duplicateRatio = duplicateRatio;
+        this.account = Math.floorMod(seed, ACCOUNT_SPACE);
+    }
+
+    /**
+     * Próximo cartão: um PAN novo ou, com probabilidade {@code duplicateRatio}, um já gerado.
+     */
+    public String nextPan() {
+        if (!history.isEmpty() && random.nextDouble() < duplicateRatio) {
+            return existingPan();
+        }
+        String pan = newPan();
+        // Amostra de tamanho fixo dos PANs gerados (reservoir sampling) para as repetições
+        if (history.size() < HISTORY_SIZE) {
+            history.add(pan);
+        } else {
+            int slot = (int) (random.nextDouble() * generated);
+            if (slot < HISTORY_SIZE) {
+                history.set(slot, pan);
+            }
+        }
+        return pan;
+    }
+
+    /**
+     * Um PAN já gerado (ou um novo, se ainda não houver nenhum), para consultas que devem encontrar o cartão.
+     */
+    public String existingPan() {
+        if (history.isEmpty()) {
+            return nextPan();
+        }
+        return history.get(random.nextInt(history.size()));
+    }
+
+    private String newPan() {
+        if (generated >= ACCOUNT_SPACE) {
+            throw new IllegalStateException("Card space exhausted");
+        }
+        generated++;
+        account = (account + ACCOUNT_STEP) % ACCOUNT_SPACE;
+        return withCheckDigit(BIN + String.format("%09d", account));
+    }
+
+    /**
+     * Escreve {@code cards} cartões divididos em lotes de até {@code cardsPerBatch}, numerados a partir de LOTE0001.
+     */
+    public void write(Writer out, int cards, int cardsPerBatch) throws IOException {
+        if (cardsPerBatch < 1 || cardsPerBatch > 999_999) {
+            throw new IllegalArgumentException("Cards per batch must be between 1 and 999999");
+        }
+        int batch = 0;
+        for (int written = 0; written < cards; written += cardsPerBatch) {
+            int count = Math.min(cardsPerBatch, cards - written);
+            String batchNumber = String.format("LOTE%04d", ++batch % 10_000);
+            // [01-29]NOME [30-37]DATA [38-45]LOTE [46-51]QUANTIDADE
+            out.write(String.format("%-29s%s%s%06d\n", "DESAFIO-HYPERATIVA", FILE_DATE, batchNumber, count));
+            for (int sequence = 1; sequence <= count; sequence++) {
+                // [01-01]C [02-07]NUMERAÇÃO [08-26]NÚMERO DE CARTAO
+                out.write(String.format("C%-6d%s\n", sequence, nextPan()));
+            }
+            // [01-08]LOTE [09-14]QUANTIDADE
+            out.write(String.format("%s%06d\n", batchNumber, count));
+        }
+    }
+
+    public String generate(int cards, int cardsPerBatch) {
+        StringWriter out = new StringWriter();
+        try {
+            write(out, cards, cardsPerBatch);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    static String withCheckDigit(String partial) {
+        int sum = 0;
+        // Da direita para a esquerda, dobrando os dígitos que ficarão em posição par após o dígito verificador
+        for (int i = partial.length() - 1, position = 0; i >= 0; i--, position++) {
+            int digit = partial.charAt(i) - '0';
+            if (position % 2 == 0) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return partial + (10 - sum % 10) % 10;
+    }
+
+    static boolean isLuhnValid(String pan) {
+        return pan.length() > 1 && withCheckDigit(pan.substring(0, pan.length() - 1)).equals(pan);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(args.length > 0 ? args[0] : "target/cards.txt");
+        int cards = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        double duplicateRatio = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        int cardsPerBatch = args.length > 4 ? Integer.parseInt(args[4]) : 10_000;
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            new CardFileGenerator(seed, duplicateRatio).write(out, cards, cardsPerBatch);
+        }
+        System.out.printf("cards=%d duplicateRatio=%.2f seed=%d cardsPerBatch=%d file=%s%n",
+                cards, duplicateRatio, seed, cardsPerBatch, output);
+    }
+}
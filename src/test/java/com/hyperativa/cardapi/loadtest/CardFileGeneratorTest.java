@@ -0,0 +1,92 @@
+package com.hyperativa.cardapi.loadtest;
+
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.service.BatchSummaryService;
+import com.hyperativa.cardapi.service.CardService;
+import com.hyperativa.cardapi.service.FileProcessingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CardFileGenerator Unit Tests")
+class CardFileGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar PANs válidos pelo algoritmo de Luhn - Cenário Feliz")
+    void testNextPan_LuhnValid() {
+        // Given
+        CardFileGenerator generator = new CardFileGenerator(42L, 0.0);
+
+        // When
+        Set<String> pans = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            pans.add(generator.nextPan());
+        }
+
+        // Then
+        assertEquals(10_000, pans.size());
+        assertTrue(pans.stream().allMatch(CardFileGenerator::isLuhnValid));
+        assertTrue(CardFileGenerator.isLuhnValid("4111111111111111"));
+        assertFalse(CardFileGenerator.isLuhnValid("4111111111111112"));
+    }
+
+    @Test
+    @DisplayName("Deve repetir a mesma sequência para a mesma semente - Cenário Feliz")
+    void testGenerate_Reproducible() {
+        assertEquals(new CardFileGenerator(7L, 0.2).generate(500, 100),
+                new CardFileGenerator(7L, 0.2).generate(500, 100));
+        assertNotEquals(new CardFileGenerator(7L, 0.2).generate(500, 100),
+                new CardFileGenerator(8L, 0.2).generate(500, 100));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a proporção de duplicados - Cenário Feliz")
+    void testNextPan_DuplicateRatio() {
+        // Given
+        CardFileGenerator generator = new CardFileGenerator(42L, 0.25);
+
+        // When
+        Set<String> unique = new HashSet<>();
+        int total = 20_000;
+        for (int i = 0; i < total; i++) {
+            unique.add(generator.nextPan());
+        }
+
+        // Then
+        double duplicates = 1.0 - (double) unique.size() / total;
+        assertEquals(0.25, duplicates, 0.02);
+    }
+
+    @Test
+    @DisplayName("Deve gerar arquivo aceito pelo FileProcessingService - Cenário Feliz")
+    void testGenerate_ParsedByFileProcessingService() throws Exception {
+        // Given
+        String content = new CardFileGenerator(42L, 0.0).generate(250, 100);
+        CardService cardService = mock(CardService.class);
+        BatchSummaryService batchSummaryService = mock(BatchSummaryService.class);
+        when(cardService.registerCard(anyString(), anyString(), any()))
+                .thenReturn(CardRegisterResponse.builder().id(1L).alreadyExists(false).build());
+        FileProcessingService service = new FileProcessingService(cardService, batchSummaryService);
+
+        // When
+        List<CardRegisterResponse> responses = service.processFile(new MockMultipartFile("file", "cards.txt",
+                "text/plain", content.getBytes(StandardCharsets.UTF_8))).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(250, responses.size());
+        verify(batchSummaryService).startBatch("LOTE0001", 100);
+        verify(batchSummaryService).completeBatch("LOTE0003", 50);
+        verify(cardService).registerCard(anyString(), eq("LOTE0002"), eq(100));
+    }
+}
@@ -0,0 +1,341 @@
+package com.hyperativa.cardapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga contra uma instância local: mistura cadastro, consulta e upload de arquivos em
+ * taxa constante (laço aberto) e reporta as latências em HdrHistogram.
+ * <p>
+ * Cada requisição tem um instante planejado ({@code início + i / taxa}). A latência "corrected" é
+ * medida a partir desse instante, então filas no cliente ou no servidor entram na medida
+ * (correção de coordinated omission); a "uncorrected" é só o tempo de resposta após o envio.
+ * A mesma semente gera a mesma sequência de operações e cartões.
+ * <p>
+ * Não roda no mvn test. Suba a aplicação (H2 em memória ou MySQL local) e execute:
+ * <pre>
+ * mvn -Pload-test test-compile exec:java -Dexec.mainClass=com.hyperativa.cardapi.CardApiApplication \
+ *     -Dexec.args="--spring.profiles.active=test,loadtest"
+ * mvn -Pload-test test-compile exec:java -Dloadtest.rate=100 -Dloadtest.durationSeconds=60
+ * </pre>
+ * Propriedades ({@code -Dloadtest.*}): baseUrl, username, password, rate (req/s), durationSeconds,
+ * warmupSeconds, mix (ex.: register:70,check:25,file:5), fileCards, duplicateRatio, seed, threads,
+ * drainSeconds (espera pelas respostas após o fim da taxa), outputDir (distribuições .hgrm por operação).
+ * Requisições ainda sem resposta ao fim da espera entram nos histogramas como "Timeout", com a latência
+ * até o fim da execução, em vez de sumirem do relatório.
+ */
+public class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final Duration TOKEN_RENEWAL = Duration.ofMinutes(10);
+
+    enum Operation { REGISTER, CHECK, FILE }
+
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Operation, Histogram> corrected = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> uncorrected = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+    // Requisições medidas ainda sem resposta, por índice; quem remove a entrada registra a latência
+    private final Map<Long, InFlight> pending = new ConcurrentHashMap<>();
+
+    private volatile String token;
+    private volatile long tokenIssuedAt;
+
+    LoadTest(String baseUrl, String username, String password) {
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        for (Operation operation : Operation.values()) {
+            corrected.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            uncorrected.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        String username = System.getProperty("loadtest.username", "admin");
+        String password = System.getProperty("loadtest.password", "admin123");
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "50"));
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        Map<Operation, Integer> mix = parseMix(System.getProperty("loadtest.mix", "register:70,check:25,file:5"));
+        int fileCards = Integer.getInteger("loadtest.fileCards", 1_000);
+        double duplicateRatio = Double.parseDouble(System.getProperty("loadtest.duplicateRatio", "0.1"));
+        long seed = Long.getLong("loadtest.seed", 42L);
+        int threads = Integer.getInteger("loadtest.threads", 64);
+        int drainSeconds = Integer.getInteger("loadtest.drainSeconds", 300);
+        Path outputDir = Path.of(System.getProperty("loadtest.outputDir", "target/loadtest"));
+
+        System.out.printf("baseUrl=%s rate=%.1f/s duration=%ds warmup=%ds mix=%s fileCards=%d duplicateRatio=%.2f seed=%d threads=%d%n",
+                baseUrl, rate, durationSeconds, warmupSeconds, mix, fileCards, duplicateRatio, seed, threads);
+
+        LoadTest loadTest = new LoadTest(baseUrl, username, password);
+        loadTest.renewToken();
+        loadTest.run(rate, warmupSeconds, durationSeconds, mix, new CardFileGenerator(seed, duplicateRatio),
+                new Random(seed), fileCards, threads, drainSeconds);
+        loadTest.report(System.out, durationSeconds);
+        loadTest.writeDistributions(outputDir);
+    }
+
+    void run(double rate, int warmupSeconds, int durationSeconds, Map<Operation, Integer> mix,
+             CardFileGenerator generator, Random random, int fileCards, int threads, int drainSeconds)
+            throws InterruptedException {
+        // Fila sem limite: se a aplicação não acompanhar a taxa, a espera aparece na latência corrigida
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (System.nanoTime() - tokenIssuedAt > TOKEN_RENEWAL.toNanos()) {
+                renewToken();
+            }
+            Operation operation = pick(mix, totalWeight, random);
+            HttpRequest request = buildRequest(operation, generator, fileCards, i);
+            long index = i;
+            InFlight inFlight = new InFlight(operation, intended);
+            if (intended >= measureFrom) {
+                pending.put(index, inFlight);
+            }
+            executor.execute(() -> execute(index, inFlight, request));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(drainSeconds, TimeUnit.SECONDS)) {
+            long endOfRun = System.nanoTime();
+            executor.shutdownNow();
+            int timedOut = recordPendingAsTimeouts(endOfRun);
+            System.out.printf("warning: %d requests still pending after %ds, recorded as Timeout%n", timedOut, drainSeconds);
+        }
+    }
+
+    private void execute(long index, InFlight inFlight, HttpRequest request) {
+        long sentAt = System.nanoTime();
+        inFlight.sentAt = sentAt;
+        inFlight.sent = true;
+        String outcome;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            outcome = String.valueOf(response.statusCode());
+        } catch (IOException e) {
+            outcome = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long finishedAt = System.nanoTime();
+        // Não medida (aquecimento) ou já registrada como Timeout no fim da execução
+        if (pending.remove(index) == null) {
+            return;
+        }
+        Operation operation = inFlight.operation;
+        corrected.get(operation).recordValue(toMicros(finishedAt - inFlight.intendedNanos));
+        uncorrected.get(operation).recordValue(toMicros(finishedAt - sentAt));
+        outcomes.get(operation).computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Registra as requisições medidas ainda sem resposta com a latência até {@code endOfRunNanos}
+     * (na "uncorrected", só as que chegaram a ser enviadas). Retorna quantas foram registradas.
+     */
+    private int recordPendingAsTimeouts(long endOfRunNanos) {
+        int timedOut = 0;
+        for (Long index : pending.keySet()) {
+            InFlight inFlight = pending.remove(index);
+            if (inFlight == null) {
+                continue;
+            }
+            Operation operation = inFlight.operation;
+            corrected.get(operation).recordValue(toMicros(endOfRunNanos - inFlight.intendedNanos));
+            if (inFlight.sent) {
+                uncorrected.get(operation).recordValue(toMicros(endOfRunNanos - inFlight.sentAt));
+            }
+            outcomes.get(operation).computeIfAbsent("Timeout", key -> new LongAdder()).increment();
+            timedOut++;
+        }
+        return timedOut;
+    }
+
+    private HttpRequest buildRequest(Operation operation, CardFileGenerator generator, int fileCards, long index) {
+        return switch (operation) {
+            case REGISTER -> jsonPost("/api/cards/register", String.format(
+                    "{\"cardNumber\":\"%s\",\"batchNumber\":\"LOADTEST\",\"sequenceNumber\":%d}",
+                    generator.nextPan(), index % 1_000_000));
+            case CHECK -> jsonPost("/api/cards/check",
+                    String.format("{\"cardNumber\":\"%s\"}", generator.existingPan()));
+            case FILE -> multipartPost("/api/cards/register/file", "loadtest-" + index + ".txt",
+                    generator.generate(fileCards, fileCards));
+        };
+    }
+
+    private HttpRequest jsonPost(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest multipartPost(String path, String fileName, String content) {
+        String boundary = "loadtest-" + Long.toHexString(System.nanoTime());
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n"
+                + content + "\r\n"
+                + "--" + boundary + "--\r\n";
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private void renewToken() {
+        String body = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+            }
+            JsonNode json = objectMapper.readTree(response.body());
+            token = json.get("token").asText();
+            tokenIssuedAt = System.nanoTime();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not reach " + baseUrl + ", is the application running?", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during login", e);
+        }
+    }
+
+    void report(PrintStream out, int durationSeconds) {
+        out.printf("%n%-9s %-11s %8s %9s %9s %9s %9s %9s %9s  %s%n", "operation", "latency", "count", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        for (Operation operation : Operation.values()) {
+            Map<String, Long> counts = new TreeMap<>();
+            outcomes.get(operation).forEach((outcome, count) -> counts.put(outcome, count.sum()));
+            printRow(out, operation, "corrected", corrected.get(operation), durationSeconds, counts.toString());
+            printRow(out, operation, "uncorrected", uncorrected.get(operation), durationSeconds, "");
+        }
+    }
+
+    private static void printRow(PrintStream out, Operation operation, String label, Histogram histogram,
+                                 int durationSeconds, String outcomes) {
+        out.printf("%-9s %-11s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n", operation.name().toLowerCase(), label,
+                histogram.getTotalCount(), (double) histogram.getTotalCount() / Math.max(1, durationSeconds),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()), outcomes);
+    }
+
+    private void writeDistributions(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        for (Operation operation : Operation.values()) {
+            Path file = outputDir.resolve(operation.name().toLowerCase() + "-corrected.hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                // Valores em microssegundos; a escala 1000 gera o arquivo em milissegundos
+                corrected.get(operation).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.println("\nPercentile distributions (ms) written to " + outputDir.toAbsolutePath());
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must have at least one operation with positive weight");
+        }
+        return weights;
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int value = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private static final class InFlight {
+
+        private final Operation operation;
+        private final long intendedNanos;
+        private volatile long sentAt;
+        private volatile boolean sent;
+
+        private InFlight(Operation operation, long intendedNanos) {
+            this.operation = operation;
+            this.intendedNanos = intendedNanos;
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
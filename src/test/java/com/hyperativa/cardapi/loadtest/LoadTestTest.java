@@ -0,0 +1,82 @@
+package com.hyperativa.cardapi.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoadTest Unit Tests")
+class LoadTestTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Servidor que responde ao login, mas às demais requisições só ao fim do teste
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/auth/login", exchange -> {
+            byte[] body = "{\"token\":\"test-token\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/api/cards", exchange -> {
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve registrar como Timeout as requisições sem resposta ao fim da execução - Cenário Triste")
+    void testRun_PendingRequestsRecordedAsTimeouts() throws Exception {
+        // Given
+        LoadTest loadTest = new LoadTest("http://localhost:" + server.getAddress().getPort(), "admin", "admin123");
+
+        // When
+        loadTest.run(20, 0, 1, Map.of(LoadTest.Operation.REGISTER, 1), new CardFileGenerator(42L, 0.0),
+                new Random(42L), 10, 2, 1);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        loadTest.report(new PrintStream(output, true, StandardCharsets.UTF_8), 1);
+
+        // Then
+        String report = output.toString(StandardCharsets.UTF_8);
+        String correctedRow = report.lines().filter(line -> line.startsWith("register  corrected")).findFirst().orElseThrow();
+        String uncorrectedRow = report.lines().filter(line -> line.startsWith("register  uncorrected")).findFirst().orElseThrow();
+        assertTrue(correctedRow.contains("{Timeout=20}"), report);
+        assertEquals("20", correctedRow.split("\\s+")[2]);
+        // Só as 2 enviadas (uma por thread) entram na latência sem correção
+        assertEquals("2", uncorrectedRow.split("\\s+")[2]);
+    }
+}
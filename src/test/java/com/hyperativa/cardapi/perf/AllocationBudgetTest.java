@@ -0,0 +1,101 @@
+package com.hyperativa.cardapi.perf;
+
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.loadtest.CardFileGenerator;
+import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.repository.CardUpsertResult;
+import com.hyperativa.cardapi.service.BatchCounts;
+import com.hyperativa.cardapi.service.BatchSummaryService;
+import com.hyperativa.cardapi.service.CardService;
+import com.hyperativa.cardapi.service.EncryptionService;
+import com.hyperativa.cardapi.service.FileProcessingService;
+import com.hyperativa.cardapi.sharding.ShardRouter;
+import com.hyperativa.cardapi.sharding.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Orçamento de bytes alocados por operação no caminho quente, medido por thread
+ * ({@link AllocationMeter}). Repositórios são stubs sem alocação para medir só o código da aplicação.
+ */
+@DisplayName("Allocation Budget Tests")
+class AllocationBudgetTest {
+
+    private static final int FILE_CARDS = 10_000;
+
+    private final CardFileGenerator generator = new CardFileGenerator(50L, 0.0);
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation accounting not available on this JVM");
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar um cartão dentro do orçamento de alocação - Cenário Feliz")
+    void testRegisterCard_WithinBudget() {
+        // Given
+        CardUpsertResult inserted = new CardUpsertResult(1L, true);
+        CardRepository cardRepository = (CardRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CardRepository.class}, (proxy, method, args) -> inserted);
+        CardService cardService = new CardService(cardRepository, new EncryptionService("perf-budget-key", 1),
+                new ShardRouter(new ShardingProperties()));
+        String cardNumber = generator.nextPan();
+
+        // When
+        long bytes = AllocationMeter.bytesPerOperation(500, 500,
+                () -> cardService.registerCard(cardNumber, "LOTE0001", 1));
+
+        // Then
+        assertWithinBudget("alloc.register-card.bytes", bytes);
+    }
+
+    @Test
+    @DisplayName("Deve processar linhas do arquivo dentro do orçamento de alocação - Cenário Feliz")
+    void testParseLine_WithinBudget() {
+        // Given
+        CardRegisterResponse registered = CardRegisterResponse.builder().id(1L).message("Card registered successfully")
+                .alreadyExists(false).build();
+        CardService cardService = new CardService(null, null, null) {
+            @Override
+            public CardRegisterResponse registerCard(String cardNumber, String batchNumber, Integer sequenceNumber) {
+                return registered;
+            }
+        };
+        BatchSummaryService batchSummaryService = new BatchSummaryService(null) {
+            @Override
+            public void startBatch(String batchNumber, Integer declaredCount) {
+            }
+
+            @Override
+            public void flush(String batchNumber, BatchCounts counts) {
+            }
+
+            @Override
+            public void completeBatch(String batchNumber, Integer trailerCount) {
+            }
+        };
+        FileProcessingService fileProcessingService = new FileProcessingService(cardService, batchSummaryService);
+        MockMultipartFile file = new MockMultipartFile("file", "perf.txt", "text/plain",
+                generator.generate(FILE_CARDS, 1_000).getBytes(StandardCharsets.UTF_8));
+
+        // When
+        long bytesPerFile = AllocationMeter.bytesPerOperation(3, 5,
+                () -> assertEquals(FILE_CARDS, fileProcessingService.processFile(file).join().size()));
+
+        // Then
+        assertWithinBudget("alloc.parse-line.bytes", bytesPerFile / FILE_CARDS);
+    }
+
+    private static void assertWithinBudget(String key, long bytes) {
+        long budget = PerfBudgets.get(key);
+        assertTrue(bytes <= budget, key + " over budget: " + bytes + " B > " + budget + " B");
+    }
+}
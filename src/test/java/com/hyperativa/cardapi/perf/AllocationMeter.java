@@ -0,0 +1,34 @@
+package com.hyperativa.cardapi.perf;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes alocados no heap pela thread corrente (com.sun.management.ThreadMXBean), por operação.
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Executa {@code work} {@code warmup} vezes (aquecimento do JIT) e retorna a média de bytes
+     * alocados por execução nas {@code iterations} seguintes.
+     */
+    public static long bytesPerOperation(int warmup, int iterations, Runnable work) {
+        for (int i = 0; i < warmup; i++) {
+            work.run();
+        }
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            work.run();
+        }
+        return (THREADS.getCurrentThreadAllocatedBytes() - before) / iterations;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hyperativa.cardapi.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Orçamentos de desempenho versionados em {@code perf-budgets.properties}.
+ */
+public final class PerfBudgets {
+
+    private static final Properties BUDGETS = load();
+
+    private PerfBudgets() {
+    }
+
+    public static long get(String key) {
+        String value = BUDGETS.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing budget in perf-budgets.properties: " + key);
+        }
+        return Long.parseLong(value.trim().replace("_", ""));
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = PerfBudgets.class.getResourceAsStream("/perf-budgets.properties")) {
+            if (in == null) {
+                throw new IllegalStateException("perf-budgets.properties not found on the test classpath");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read perf-budgets.properties", e);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,147 @@
+package com.hyperativa.cardapi.perf;
+
+import com.hyperativa.cardapi.dto.CardRegisterRequest;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.loadtest.CardFileGenerator;
+import com.hyperativa.cardapi.service.CardBatchService;
+import com.hyperativa.cardapi.service.CardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Orçamento de comandos SQL por operação, contra o H2 do perfil de teste. Um chunk de N cartões
+ * precisa custar um número constante de round trips, independente de N.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@Import(SqlStatementCounterConfig.class)
+@DisplayName("SQL Statement Budget Tests")
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private CardBatchService cardBatchService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    // Compartilhado entre os testes: o banco do contexto também é, e os PANs não podem se repetir
+    private static final CardFileGenerator GENERATOR = new CardFileGenerator(50L, 0.0);
+
+    @BeforeEach
+    void setUp() {
+        counter.reset();
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar um chunk de cartões com número constante de comandos - Cenário Feliz")
+    void testRegisterCards_StatementsIndependentOfChunkSize() {
+        // Given
+        List<CardRegisterRequest> small = requests("PERF0050", 50);
+        List<CardRegisterRequest> large = requests("PERF0200", 200);
+
+        // When
+        int smallStatements = statementsFor(() -> cardBatchService.registerCards(small));
+        int largeStatements = statementsFor(() -> cardBatchService.registerCards(large));
+
+        // Then
+        assertEquals(smallStatements, largeStatements,
+                "Statements grow with the chunk size: " + counter.statements());
+        assertWithinBudget("sql.register-batch-chunk.statements", largeStatements);
+    }
+
+    @Test
+    @DisplayName("Deve recadastrar um chunk já existente sem comandos por cartão - Cenário Feliz")
+    void testRegisterCards_DuplicatesWithinBudget() {
+        // Given
+        List<CardRegisterRequest> requests = requests("PERFDUP", 200);
+        cardBatchService.registerCards(requests);
+
+        // When
+        int statements = statementsFor(() -> {
+            List<CardRegisterResponse> responses = cardBatchService.registerCards(requests);
+            assertTrue(responses.stream().allMatch(response -> Boolean.TRUE.equals(response.getAlreadyExists())));
+        });
+
+        // Then
+        assertWithinBudget("sql.register-batch-chunk.statements", statements);
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar um cartão dentro do orçamento de comandos - Cenário Feliz")
+    void testRegisterCard_WithinBudget() {
+        // Given
+        String cardNumber = GENERATOR.nextPan();
+
+        // When
+        int statements = statementsFor(() -> cardService.registerCard(cardNumber, "PERFONE", 1));
+
+        // Then
+        assertWithinBudget("sql.register-card.statements", statements);
+    }
+
+    @Test
+    @DisplayName("Deve recadastrar um cartão dentro do orçamento de comandos - Cenário Feliz")
+    void testRegisterCard_DuplicateWithinBudget() {
+        // Given
+        String cardNumber = GENERATOR.nextPan();
+        CardRegisterResponse first = cardService.registerCard(cardNumber, "PERFONE", 1);
+
+        // When
+        int statements = statementsFor(() -> assertEquals(first.getId(),
+                cardService.registerCard(cardNumber, "PERFONE", 1).getId()));
+
+        // Then
+        assertWithinBudget("sql.register-card-duplicate.statements", statements);
+    }
+
+    @Test
+    @DisplayName("Deve consultar um cartão dentro do orçamento de comandos - Cenário Feliz")
+    void testCheckCard_WithinBudget() {
+        // Given
+        String cardNumber = GENERATOR.nextPan();
+        cardService.registerCard(cardNumber, "PERFCHK", 1);
+
+        // When
+        int statements = statementsFor(() -> assertTrue(cardService.checkCard(cardNumber).isExists()));
+
+        // Then
+        assertWithinBudget("sql.check-card.statements", statements);
+    }
+
+    private int statementsFor(Runnable operation) {
+        counter.reset();
+        operation.run();
+        return counter.count();
+    }
+
+    private void assertWithinBudget(String key, int statements) {
+        long budget = PerfBudgets.get(key);
+        assertTrue(statements <= budget,
+                key + " over budget: " + statements + " > " + budget + " " + counter.statements());
+    }
+
+    private List<CardRegisterRequest> requests(String batchNumber, int cards) {
+        List<CardRegisterRequest> requests = new ArrayList<>(cards);
+        for (int i = 0; i < cards; i++) {
+            CardRegisterRequest request = new CardRegisterRequest();
+            request.setCardNumber(GENERATOR.nextPan());
+            request.setBatchNumber(batchNumber);
+            request.setSequenceNumber(i + 1);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
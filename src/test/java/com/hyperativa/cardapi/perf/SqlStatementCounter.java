@@ -0,0 +1,102 @@
+package com.hyperativa.cardapi.perf;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Conta os comandos SQL enviados ao banco: cada execute, executeQuery, executeUpdate ou executeBatch
+ * é um round trip. Envolve o DataSource da aplicação, então pega JPA e JdbcTemplate.
+ */
+public class SqlStatementCounter {
+
+    private final List<String> statements = new ArrayList<>();
+
+    public DataSource wrap(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return proxyConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return proxyConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    public synchronized void reset() {
+        statements.clear();
+    }
+
+    public synchronized int count() {
+        return statements.size();
+    }
+
+    public synchronized long count(String type) {
+        return statements.stream().filter(sql -> typeOf(sql).equals(type)).count();
+    }
+
+    /**
+     * Comandos executados desde o último reset, para as mensagens de falha.
+     */
+    public synchronized List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    private synchronized void record(String sql) {
+        statements.add(sql != null ? sql : "<unknown>");
+    }
+
+    private static String typeOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = trimmed.indexOf(' ');
+        return (end > 0 ? trimmed.substring(0, end) : trimmed).toLowerCase(Locale.ROOT);
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = method.getName().startsWith("prepare") && args != null && args[0] instanceof String text
+                                ? text : null;
+                        return proxyStatement(statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement proxyStatement(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        record(args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
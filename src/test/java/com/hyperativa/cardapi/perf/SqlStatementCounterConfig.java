@@ -0,0 +1,34 @@
+package com.hyperativa.cardapi.perf;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Troca o DataSource principal por um que conta os comandos SQL ({@link SqlStatementCounter}).
+ */
+@TestConfiguration
+public class SqlStatementCounterConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingPostProcessor(
+            ObjectProvider<SqlStatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return counter.getObject().wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("Deve recusar imediatamente acima do limite - Cenário Triste")
+    void testTryAcquire_ShedsAboveLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite com latência baixa e uso alto - Cenário Feliz")
+    void testRelease_AdditiveIncrease() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 3, THRESHOLD, 0.5);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST);
+            limiter.release(FAST);
+        }
+
+        // Then
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite quando ocioso - Cenário Feliz")
+    void testRelease_NoIncreaseWhenIdle() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, THRESHOLD, 0.5);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite com latência alta até o mínimo - Cenário Triste")
+    void testRelease_MultiplicativeDecrease() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 2, 100, THRESHOLD, 0.5);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+
+        // Then
+        assertEquals(8, limiter.getLimit());
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW);
+        }
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inválida - Cenário Triste")
+    void testConstructor_InvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 0, 10, THRESHOLD, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 5, 4, THRESHOLD, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 1, 4, THRESHOLD, 1.0));
+    }
+}
@@ -0,0 +1,126 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import com.hyperativa.cardapi.controller.CardController;
+import com.hyperativa.cardapi.controller.ReactiveCardController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ConcurrencyLimitInterceptor Unit Tests")
+class ConcurrencyLimitInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ConcurrencyLimitInterceptor(new ConcurrencyLimiters(properties, meterRegistry));
+    }
+
+    private static HandlerMethod handler(Class<?> type, String methodName) {
+        Method method = Arrays.stream(type.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        return new HandlerMethod(mock(type), method);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga ao concluir a requisição - Cenário Feliz")
+    void testPreHandle_ReleasesOnCompletion() throws Exception {
+        // Given
+        HandlerMethod checkCard = handler(CardController.class, "checkCard");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        assertTrue(interceptor.preHandle(request, response, checkCard));
+        assertEquals(1.0, meterRegistry.get("http.concurrency.inflight").tag("endpoint", "checkCard").gauge().value());
+        interceptor.afterCompletion(request, response, checkCard, null);
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("http.concurrency.inflight").tag("endpoint", "checkCard").gauge().value());
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), checkCard));
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 sem vaga no endpoint - Cenário Triste")
+    void testPreHandle_ShedsLoad() throws Exception {
+        // Given
+        HandlerMethod checkCard = handler(CardController.class, "checkCard");
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), checkCard));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest(), response, checkCard);
+
+        // Then
+        assertFalse(proceed);
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("http.concurrency.rejected").tag("endpoint", "checkCard").counter().count());
+        assertEquals(1.0, meterRegistry.get("http.concurrency.limit").tag("endpoint", "checkCard").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve manter limites separados por endpoint - Cenário Feliz")
+    void testPreHandle_PerEndpoint() throws Exception {
+        // Given
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                handler(CardController.class, "checkCard")));
+
+        // When & Then
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                handler(CardController.class, "registerCard")));
+    }
+
+    @Test
+    @DisplayName("Deve manter a vaga até o fim do dispatch assíncrono - Cenário Feliz")
+    void testPreHandle_AsyncRequest() throws Exception {
+        // Given
+        HandlerMethod exportBatch = handler(CardController.class, "exportBatch");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, exportBatch));
+        request.startAsync();
+
+        // When
+        interceptor.afterCompletion(request, response, exportBatch, null);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("http.concurrency.inflight").tag("endpoint", "exportBatch").gauge().value());
+        request.setAsyncStarted(false);
+        assertTrue(interceptor.preHandle(request, response, exportBatch));
+        interceptor.afterCompletion(request, response, exportBatch, null);
+        assertEquals(0.0, meterRegistry.get("http.concurrency.inflight").tag("endpoint", "exportBatch").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve limitar handlers fora do CardController - Cenário Feliz")
+    void testPreHandle_OtherHandlers() throws Exception {
+        // Given
+        HandlerMethod reactive = handler(ReactiveCardController.class, "checkCard");
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), reactive));
+        }
+        assertTrue(meterRegistry.find("http.concurrency.limit").gauges().isEmpty());
+    }
+}
@@ -0,0 +1,206 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import com.hyperativa.cardapi.security.JwtPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitFilter Unit Tests")
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimiter rateLimiter;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule check = new RateLimitProperties.Rule();
+        check.setName("check");
+        check.setPattern("/api/cards/check/**");
+        check.setMethod("POST");
+        check.setPerUser(limit(2));
+        check.setPerRole(Map.of("CARD_QUERY", limit(3)));
+
+        RateLimitProperties.Rule registerBatch = new RateLimitProperties.Rule();
+        registerBatch.setName("register-batch");
+        registerBatch.setPattern("/api/cards/register/batch");
+        registerBatch.setPerItem(true);
+        registerBatch.setPerUser(limit(10));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(check, registerBatch));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(properties, meterRegistry);
+        rateLimitFilter = new RateLimitFilter(rateLimiter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static RateLimitProperties.Limit limit(long capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(0.001);
+        return limit;
+    }
+
+    private void authenticate(String username, String... roles) {
+        JwtPrincipal principal = JwtPrincipal.of(username, List.of(roles), Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("Deve permitir requisições dentro do limite do usuário - Cenário Feliz")
+    void testFilter_WithinLimit() throws Exception {
+        // Given
+        authenticate("query", "CARD_QUERY");
+
+        // When & Then
+        assertEquals(200, perform("POST", "/api/cards/check").getStatus());
+        assertEquals(200, perform("POST", "/api/cards/check").getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After acima do limite do usuário - Cenário Triste")
+    void testFilter_UserLimitExceeded() throws Exception {
+        // Given
+        authenticate("query", "CARD_QUERY");
+        perform("POST", "/api/cards/check");
+        perform("POST", "/api/cards/check");
+
+        // When
+        MockHttpServletResponse response = perform("POST", "/api/cards/check");
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertTrue(Long.parseLong(response.getHeader("Retry-After")) >= 1);
+        assertTrue(response.getContentAsString().contains("Too many requests"));
+        assertEquals(1.0, meterRegistry.get("http.ratelimit.rejected")
+                .tag("rule", "check").tag("scope", "user").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o total de uma role entre usuários diferentes - Cenário Triste")
+    void testFilter_RoleLimitExceeded() throws Exception {
+        // Given
+        authenticate("query1", "CARD_QUERY");
+        perform("POST", "/api/cards/check");
+        perform("POST", "/api/cards/check");
+        authenticate("query2", "CARD_QUERY");
+        perform("POST", "/api/cards/check");
+
+        // When
+        MockHttpServletResponse response = perform("POST", "/api/cards/check");
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals(1.0, meterRegistry.get("http.ratelimit.rejected")
+                .tag("rule", "check").tag("scope", "role").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve usar o IP como chave em requisições sem token - Cenário Triste")
+    void testFilter_AnonymousByIp() throws Exception {
+        // Given
+        perform("POST", "/api/cards/check");
+        perform("POST", "/api/cards/check");
+
+        // When
+        MockHttpServletResponse response = perform("POST", "/api/cards/check");
+
+        // Then
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve limitar endpoints ou métodos sem regra - Cenário Feliz")
+    void testFilter_NoMatchingRule() throws Exception {
+        // Given
+        authenticate("query", "CARD_QUERY");
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform("GET", "/api/cards/check").getStatus());
+            assertEquals(200, perform("POST", "/api/batches/LOTE0001").getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve cobrar lotes por item, não por requisição - Cenário Triste")
+    void testAcquireItems_ChargesPerItem() throws Exception {
+        // Given
+        authenticate("register", "CARD_REGISTER");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/cards/register/batch");
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform("POST", "/api/cards/register/batch").getStatus());
+        }
+        rateLimiter.acquireItems(request, 6);
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquireItems(request, 6));
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals(1.0, meterRegistry.get("http.ratelimit.rejected")
+                .tag("rule", "register-batch").tag("scope", "user").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar sem Retry-After lote acima da capacidade do balde - Cenário Triste")
+    void testAcquireItems_AboveCapacity() {
+        // Given
+        authenticate("register", "CARD_REGISTER");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/cards/register/batch");
+
+        // When
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquireItems(request, 11));
+
+        // Then
+        assertEquals(0, exception.getRetryAfterSeconds());
+        assertTrue(exception.getMessage().contains("capacity of 10"));
+        // O balde continua cheio: o lote recusado não consumiu tokens
+        rateLimiter.acquireItems(request, 10);
+        assertEquals(1.0, meterRegistry.get("http.ratelimit.rejected")
+                .tag("rule", "register-batch").tag("scope", "capacity").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a regra gRPC pelo nome simples ou completo do método - Cenário Feliz")
+    void testFindGrpcRule() {
+        // Given
+        RateLimitProperties.Rule check = rateLimiter.findRule(new MockHttpServletRequest("POST", "/api/cards/check"));
+        check.setGrpcMethods(List.of("CheckCard", "hyperativa.card.v1.CardService/CheckCardStream"));
+
+        // When & Then
+        assertSame(check, rateLimiter.findGrpcRule("hyperativa.card.v1.CardService/CheckCard"));
+        assertSame(check, rateLimiter.findGrpcRule("hyperativa.card.v1.CardService/CheckCardStream"));
+        assertNull(rateLimiter.findGrpcRule("hyperativa.card.v1.CardService/RegisterCard"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.hyperativa.cardapi.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("Deve permitir rajada até a capacidade - Cenário Feliz")
+    void testTryConsume_BurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1.0, clock::get);
+
+        // When & Then
+        assertEquals(0L, bucket.tryConsume());
+        assertEquals(0L, bucket.tryConsume());
+        assertEquals(0L, bucket.tryConsume());
+        assertFalse(bucket.isFull());
+    }
+
+    @Test
+    @DisplayName("Deve negar acima da capacidade e informar a espera - Cenário Triste")
+    void testTryConsume_DeniedWhenEmpty() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1.0, clock::get);
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        // When
+        long wait = bucket.tryConsume();
+
+        // Then
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+    }
+
+    @Test
+    @DisplayName("Deve consumir vários tokens de uma vez, tudo ou nada - Cenário Feliz")
+    void testTryConsume_MultipleTokens() {
+        // Given
+        TokenBucket bucket = new TokenBucket(10, 1.0, clock::get);
+
+        // When & Then
+        assertEquals(0L, bucket.tryConsume(7));
+        assertEquals(TimeUnit.SECONDS.toNanos(2), bucket.tryConsume(5));
+        assertEquals(0L, bucket.tryConsume(3));
+        assertTrue(bucket.tryConsume() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar custo acima da capacidade, que nunca seria atendido - Cenário Triste")
+    void testTryConsume_CostAboveCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(5, 1.0, clock::get);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> bucket.tryConsume(6));
+        assertEquals(0L, bucket.tryConsume(5));
+        assertEquals(TimeUnit.SECONDS.toNanos(5), bucket.tryConsume(5));
+    }
+
+    @Test
+    @DisplayName("Deve repor tokens com o passar do tempo - Cenário Feliz")
+    void testTryConsume_Refill() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 2.0, clock::get);
+        bucket.tryConsume();
+        bucket.tryConsume();
+        assertTrue(bucket.tryConsume() > 0);
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Then
+        assertEquals(0L, bucket.tryConsume());
+        assertTrue(bucket.tryConsume() > 0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(bucket.isFull());
+    }
+
+    @Test
+    @DisplayName("Não deve conceder mais tokens que a capacidade sob concorrência - Cenário Feliz")
+    void testTryConsume_Concurrent() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, 0.001, clock::get);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (bucket.tryConsume() == 0L) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // When
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inválida - Cenário Triste")
+    void testConstructor_InvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+}
@@ -0,0 +1,90 @@
+package com.hyperativa.cardapi.repository;
+
+import com.hyperativa.cardapi.entity.Card;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CardRepositoryImpl Tests")
+class CardRepositoryImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CardRepositoryImpl cardRepository;
+
+    @BeforeEach
+    void setUp() {
+        // H2 em modo MySQL: como no MySQL, o duplicado afeta 0 linhas e não devolve chave gerada
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:card-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE cards (" +
+                "id BIGINT NOT NULL, batch_number VARCHAR(10), card_hash VARCHAR(64) NOT NULL, " +
+                "created_at TIMESTAMP(6) NOT NULL, encrypted_card_number VARCHAR(512) NOT NULL, " +
+                "sequence_number INT, updated_at TIMESTAMP(6) NOT NULL, " +
+                "PRIMARY KEY (id), CONSTRAINT uk_cards_card_hash UNIQUE (card_hash))");
+        cardRepository = new CardRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE cards");
+    }
+
+    @Test
+    @DisplayName("Deve inserir cartão inexistente - Cenário Feliz")
+    void testInsertIfAbsent_Inserted() {
+        // When
+        CardUpsertResult result = cardRepository.insertIfAbsent(card("hash-1"));
+
+        // Then
+        assertTrue(result.inserted());
+        assertNotNull(result.id());
+        assertEquals(result.id(), jdbcTemplate.queryForObject("SELECT id FROM cards WHERE card_hash = 'hash-1'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar ID existente para cartão duplicado - Cenário Triste")
+    void testInsertIfAbsent_DuplicateReturnsExistingId() {
+        // Given
+        CardUpsertResult first = cardRepository.insertIfAbsent(card("hash-1"));
+
+        // When
+        CardUpsertResult duplicate = cardRepository.insertIfAbsent(card("hash-1"));
+
+        // Then
+        assertFalse(duplicate.inserted());
+        assertNotNull(duplicate.id());
+        assertEquals(first.id(), duplicate.id());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cards", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar com novo ID quando o ID colide com outro cartão - Cenário Triste")
+    void testInsertIfAbsent_IdCollisionRetriesWithNewId() {
+        // Given - outro nó gerou o mesmo ID para um cartão diferente
+        CardUpsertResult existing = cardRepository.insertIfAbsent(card("hash-1"));
+        Card colliding = card("hash-2");
+        colliding.setId(existing.id());
+
+        // When
+        CardUpsertResult result = cardRepository.insertIfAbsent(colliding);
+
+        // Then
+        assertTrue(result.inserted());
+        assertNotEquals(existing.id(), result.id());
+        assertEquals(result.id(), jdbcTemplate.queryForObject("SELECT id FROM cards WHERE card_hash = 'hash-2'", Long.class));
+    }
+
+    private static Card card(String cardHash) {
+        return Card.builder()
+                .cardHash(cardHash)
+                .encryptedCardNumber("encrypted")
+                .batchNumber("LOTE0001")
+                .sequenceNumber(1)
+                .build();
+    }
+}
@@ -111,6 +111,24 @@ class CardRepositoryTest {
         verify(cardRepository).findByCardHash("nonexistent");
     }
 
+    @Test
+    @DisplayName("Deve buscar apenas o ID do cartão por hash - Cenário Feliz")
+    void testFindIdByCardHash_Success() {
+        // Given
+        when(cardRepository.findIdByCardHash("hash123456789")).thenReturn(Optional.of(1L));
+        when(cardRepository.findIdByCardHash("nonexistent")).thenReturn(Optional.empty());
+
+        // When
+        Optional<Long> found = cardRepository.findIdByCardHash("hash123456789");
+        Optional<Long> notFound = cardRepository.findIdByCardHash("nonexistent");
+
+        // Then
+        assertEquals(Optional.of(1L), found);
+        assertFalse(notFound.isPresent());
+        verify(cardRepository).findIdByCardHash("hash123456789");
+        verify(cardRepository).findIdByCardHash("nonexistent");
+    }
+
     @Test
     @DisplayName("Deve verificar existência de cartão por hash - Cenário Feliz")
     void testExistsByCardHash_Success() {
@@ -1,7 +1,13 @@
 package com.hyperativa.cardapi.security;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.hyperativa.cardapi.dto.AuthRequest;
 import com.hyperativa.cardapi.dto.AuthResponse;
+import com.hyperativa.cardapi.dto.RefreshRequest;
+import com.hyperativa.cardapi.ratelimit.RateLimitExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -29,21 +36,31 @@ import static org.mockito.Mockito.*;
 class AuthControllerTest {
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private LoginService loginService;
 
     @Mock
     private JwtTokenProvider tokenProvider;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private AuthController authController;
 
     private AuthRequest authRequest;
 
+    private MockHttpServletRequest httpRequest;
+
     @BeforeEach
     void setUp() {
         authRequest = new AuthRequest();
         authRequest.setUsername("admin");
         authRequest.setPassword("admin123");
+        httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("10.0.0.1");
     }
 
     @Test
@@ -57,19 +74,21 @@ class AuthControllerTest {
                 .build();
 
         Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        when(authenticationManager.authenticate(any())).thenReturn(auth);
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1")).thenReturn(auth);
         when(tokenProvider.generateToken(anyString(), any())).thenReturn("testToken");
+        when(refreshTokenService.issue("admin")).thenReturn("refreshToken");
 
         // When
-        AuthResponse result = authController.login(authRequest);
+        AuthResponse result = authController.login(authRequest, httpRequest);
 
         // Then
         assertNotNull(result);
         assertEquals("testToken", result.getToken());
+        assertEquals("refreshToken", result.getRefreshToken());
         assertEquals("admin", result.getUsername());
         assertNotNull(result.getRoles());
         assertTrue(result.getRoles().contains("CARD_REGISTER"));
-        verify(authenticationManager).authenticate(any());
+        verify(loginService).authenticate("admin", "admin123", "10.0.0.1");
         verify(tokenProvider).generateToken(anyString(), any());
     }
 
@@ -77,17 +96,44 @@ class AuthControllerTest {
     @DisplayName("Deve retornar erro com credenciais inválidas - Cenário Triste")
     void testLogin_InvalidCredentials() {
         // Given
-        when(authenticationManager.authenticate(any()))
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1"))
                 .thenThrow(new BadCredentialsException("Bad credentials"));
 
         // When & Then
         assertThrows(BadCredentialsException.class, () -> {
-            authController.login(authRequest);
+            authController.login(authRequest, httpRequest);
         });
-        verify(authenticationManager).authenticate(any());
+        verify(loginService).authenticate("admin", "admin123", "10.0.0.1");
         verify(tokenProvider, never()).generateToken(anyString(), any());
     }
 
+    @Test
+    @DisplayName("Deve logar login recusado em WARN sem stack trace - Cenário Triste")
+    void testLogin_RejectionLoggedWithoutStackTrace() {
+        // Given
+        Logger logger = (Logger) LoggerFactory.getLogger(AuthController.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1"))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        try {
+            // When
+            assertThrows(BadCredentialsException.class, () -> authController.login(authRequest, httpRequest));
+
+            // Then
+            ILoggingEvent event = appender.list.stream()
+                    .filter(e -> e.getLevel().isGreaterOrEqual(Level.WARN))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(Level.WARN, event.getLevel());
+            assertNull(event.getThrowableProxy());
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
     @Test
     @DisplayName("Deve retornar token com múltiplas roles - Cenário Feliz")
     void testLogin_WithMultipleRoles() {
@@ -102,11 +148,11 @@ class AuthControllerTest {
                 .build();
 
         Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        when(authenticationManager.authenticate(any())).thenReturn(auth);
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1")).thenReturn(auth);
         when(tokenProvider.generateToken(anyString(), any())).thenReturn("testToken");
 
         // When
-        AuthResponse result = authController.login(authRequest);
+        AuthResponse result = authController.login(authRequest, httpRequest);
 
         // Then
         assertNotNull(result);
@@ -116,7 +162,7 @@ class AuthControllerTest {
         assertEquals(2, result.getRoles().size());
         assertTrue(result.getRoles().contains("CARD_REGISTER"));
         assertTrue(result.getRoles().contains("CARD_QUERY"));
-        verify(authenticationManager).authenticate(any());
+        verify(loginService).authenticate("admin", "admin123", "10.0.0.1");
         verify(tokenProvider).generateToken(anyString(), any());
     }
 
@@ -124,14 +170,14 @@ class AuthControllerTest {
     @DisplayName("Deve retornar erro quando autenticação falha - Cenário Triste")
     void testLogin_AuthenticationFailure() {
         // Given
-        when(authenticationManager.authenticate(any()))
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1"))
                 .thenThrow(new RuntimeException("Authentication failed"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
-            authController.login(authRequest);
+            authController.login(authRequest, httpRequest);
         });
-        verify(authenticationManager).authenticate(any());
+        verify(loginService).authenticate("admin", "admin123", "10.0.0.1");
         verify(tokenProvider, never()).generateToken(anyString(), any());
     }
 
@@ -146,15 +192,87 @@ class AuthControllerTest {
                 .build();
 
         Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        when(authenticationManager.authenticate(any())).thenReturn(auth);
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1")).thenReturn(auth);
         when(tokenProvider.generateToken(anyString(), any()))
                 .thenThrow(new RuntimeException("Token generation failed"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
-            authController.login(authRequest);
+            authController.login(authRequest, httpRequest);
         });
-        verify(authenticationManager).authenticate(any());
+        verify(loginService).authenticate("admin", "admin123", "10.0.0.1");
         verify(tokenProvider).generateToken(anyString(), any());
     }
+
+    @Test
+    @DisplayName("Deve propagar bloqueio por excesso de tentativas - Cenário Triste")
+    void testLogin_Throttled() {
+        // Given
+        when(loginService.authenticate("admin", "admin123", "10.0.0.1"))
+                .thenThrow(new RateLimitExceededException("Too many login attempts", 12));
+
+        // When & Then
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> authController.login(authRequest, httpRequest));
+        assertEquals(12, exception.getRetryAfterSeconds());
+        verify(tokenProvider, never()).generateToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve renovar o token sem verificar senha - Cenário Feliz")
+    void testRefresh_Success() {
+        // Given
+        RefreshRequest refreshRequest = new RefreshRequest();
+        refreshRequest.setRefreshToken("oldRefresh");
+        UserDetails userDetails = User.builder()
+                .username("admin")
+                .password("password")
+                .authorities(new SimpleGrantedAuthority("ROLE_CARD_QUERY"))
+                .build();
+        when(refreshTokenService.rotate("oldRefresh")).thenReturn(new RefreshTokenService.Rotation("admin", "newRefresh"));
+        when(userService.loadUserByUsername("admin")).thenReturn(userDetails);
+        when(tokenProvider.generateToken("admin", List.of("CARD_QUERY"))).thenReturn("newToken");
+
+        // When
+        AuthResponse result = authController.refresh(refreshRequest);
+
+        // Then
+        assertEquals("newToken", result.getToken());
+        assertEquals("newRefresh", result.getRefreshToken());
+        assertEquals(List.of("CARD_QUERY"), result.getRoles());
+        verifyNoInteractions(loginService);
+    }
+
+    @Test
+    @DisplayName("Deve recusar refresh token inválido - Cenário Triste")
+    void testRefresh_InvalidToken() {
+        // Given
+        RefreshRequest refreshRequest = new RefreshRequest();
+        refreshRequest.setRefreshToken("unknown");
+        when(refreshTokenService.rotate("unknown")).thenThrow(new BadCredentialsException("Invalid refresh token"));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authController.refresh(refreshRequest));
+        verify(tokenProvider, never()).generateToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar refresh de usuário desativado - Cenário Triste")
+    void testRefresh_DisabledUser() {
+        // Given
+        RefreshRequest refreshRequest = new RefreshRequest();
+        refreshRequest.setRefreshToken("oldRefresh");
+        UserDetails userDetails = User.builder()
+                .username("admin")
+                .password("password")
+                .authorities(new SimpleGrantedAuthority("ROLE_CARD_QUERY"))
+                .disabled(true)
+                .build();
+        when(refreshTokenService.rotate("oldRefresh")).thenReturn(new RefreshTokenService.Rotation("admin", "newRefresh"));
+        when(userService.loadUserByUsername("admin")).thenReturn(userDetails);
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authController.refresh(refreshRequest));
+        verify(tokenProvider, never()).generateToken(anyString(), any());
+    }
 }
@@ -3,21 +3,19 @@ package com.hyperativa.cardapi.security;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.core.GrantedAuthority;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(MockitoExtension.class)
 @DisplayName("JwtTokenProvider Unit Tests")
 class JwtTokenProviderTest {
 
-    @InjectMocks
     private JwtTokenProvider jwtTokenProvider;
 
     private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
@@ -25,8 +23,7 @@ class JwtTokenProviderTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
-        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", EXPIRATION);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, EXPIRATION);
     }
 
     @Test
@@ -174,5 +171,107 @@ class JwtTokenProviderTest {
         List<String> extractedRoles2 = jwtTokenProvider.getRolesFromToken(token2);
         assertNotEquals(extractedRoles1, extractedRoles2);
     }
-}
 
+    @Test
+    @DisplayName("Deve verificar token uma vez e retornar principal completo - Cenário Feliz")
+    void testParse_ValidToken() {
+        // Given
+        String token = jwtTokenProvider.generateToken("admin", List.of("CARD_REGISTER", "CARD_QUERY"));
+
+        // When
+        Optional<JwtPrincipal> principal = jwtTokenProvider.parse(token);
+
+        // Then
+        assertTrue(principal.isPresent());
+        assertEquals("admin", principal.get().getName());
+        assertEquals(List.of("CARD_REGISTER", "CARD_QUERY"), principal.get().roles());
+        assertEquals(List.of("ROLE_CARD_REGISTER", "ROLE_CARD_QUERY"), principal.get().authorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        assertNotNull(principal.get().expiresAt());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token malformado sem chegar ao parser - Cenário Triste")
+    void testParse_MalformedToken() {
+        // When & Then
+        assertTrue(jwtTokenProvider.parse("").isEmpty());
+        assertTrue(jwtTokenProvider.parse("abc").isEmpty());
+        assertTrue(jwtTokenProvider.parse("a.b.c.d").isEmpty());
+        assertTrue(jwtTokenProvider.parse("a b.c.d").isEmpty());
+        assertTrue(jwtTokenProvider.parse("a".repeat(5000) + ".b.c").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com assinatura adulterada - Cenário Triste")
+    void testParse_TamperedSignature() {
+        // Given
+        String token = jwtTokenProvider.generateToken("admin", List.of("CARD_QUERY"));
+        String otherKeyToken = new JwtTokenProvider("anotherSecretKeyForJWTTokenGenerationThatShouldBe256BitsLong", EXPIRATION)
+                .generateToken("admin", List.of("CARD_REGISTER"));
+        String forged = token.substring(0, token.lastIndexOf('.')) + otherKeyToken.substring(otherKeyToken.lastIndexOf('.'));
+
+        // When & Then
+        assertTrue(jwtTokenProvider.parse(forged).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado - Cenário Triste")
+    void testParse_ExpiredToken() {
+        // Given
+        String expiredToken = new JwtTokenProvider(SECRET, -1000L).generateToken("admin", List.of("CARD_QUERY"));
+
+        // When & Then
+        assertTrue(jwtTokenProvider.parse(expiredToken).isEmpty());
+        assertFalse(jwtTokenProvider.validateToken(expiredToken));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar principal do cache e registrar hits e misses - Cenário Feliz")
+    void testParse_CachedPrincipal() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtTokenProvider.bindTo(registry);
+        String token = jwtTokenProvider.generateToken("admin", List.of("CARD_QUERY"));
+
+        // When
+        JwtPrincipal first = jwtTokenProvider.parse(token).orElseThrow();
+        JwtPrincipal second = jwtTokenProvider.parse(token).orElseThrow();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve expirar entrada do cache junto com o token - Cenário Triste")
+    void testParse_CacheEntryExpiresWithToken() throws InterruptedException {
+        // Given
+        JwtTokenProvider shortLivedProvider = new JwtTokenProvider(SECRET, 1500L, 100, Duration.ofHours(1));
+        String token = shortLivedProvider.generateToken("admin", List.of("CARD_QUERY"));
+        assertTrue(shortLivedProvider.parse(token).isPresent());
+
+        // When
+        Thread.sleep(1600L);
+
+        // Then
+        assertTrue(shortLivedProvider.parse(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar tokens inválidos no cache - Cenário Triste")
+    void testParse_InvalidTokenNotCached() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtTokenProvider.bindTo(registry);
+        String expiredToken = new JwtTokenProvider(SECRET, -1000L).generateToken("admin", List.of("CARD_QUERY"));
+
+        // When
+        jwtTokenProvider.parse(expiredToken);
+        jwtTokenProvider.parse(expiredToken);
+
+        // Then
+        assertEquals(0.0, registry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "hit").functionCounter().count());
+    }
+}
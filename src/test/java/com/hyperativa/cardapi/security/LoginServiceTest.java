@@ -0,0 +1,160 @@
+package com.hyperativa.cardapi.security;
+
+import com.hyperativa.cardapi.ratelimit.LoginThrottle;
+import com.hyperativa.cardapi.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginService Unit Tests")
+class LoginServiceTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginService loginService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginService = newLoginService(1, 1, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginService.destroy();
+    }
+
+    private LoginService newLoginService(int threads, int queueCapacity, Duration timeout) {
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, 2, 1, 5, 1, 1000, Duration.ofMinutes(15));
+        return new LoginService(authenticationManager, throttle, meterRegistry, threads, queueCapacity, timeout);
+    }
+
+    @Test
+    @DisplayName("Deve autenticar no pool de login e medir a latência - Cenário Feliz")
+    void testAuthenticate_Success() {
+        // Given
+        Authentication expected = new UsernamePasswordAuthenticationToken("admin", null, List.of());
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("login-"));
+            return expected;
+        });
+
+        // When
+        Authentication result = loginService.authenticate("admin", "admin123", "10.0.0.1");
+
+        // Then
+        assertSame(expected, result);
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "success").timer().count());
+        assertNotNull(meterRegistry.get("executor.queued").tag("name", "login").gauge());
+    }
+
+    @Test
+    @DisplayName("Deve propagar credenciais inválidas - Cenário Triste")
+    void testAuthenticate_BadCredentials() {
+        // Given
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class,
+                () -> loginService.authenticate("admin", "wrong", "10.0.0.1"));
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve bloquear tentativas repetidas do mesmo usuário - Cenário Triste")
+    void testAuthenticate_ThrottledByUsername() {
+        // Given
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+        assertThrows(BadCredentialsException.class, () -> loginService.authenticate("admin", "x", "10.0.0.1"));
+        assertThrows(BadCredentialsException.class, () -> loginService.authenticate("ADMIN", "x", "10.0.0.2"));
+
+        // When
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> loginService.authenticate("admin", "x", "10.0.0.3"));
+
+        // Then
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        verify(authenticationManager, times(2)).authenticate(any());
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("scope", "username").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve bloquear muitas tentativas do mesmo IP - Cenário Triste")
+    void testAuthenticate_ThrottledByIp() {
+        // Given
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+        for (int i = 0; i < 5; i++) {
+            String username = "user" + i;
+            assertThrows(BadCredentialsException.class, () -> loginService.authenticate(username, "x", "10.0.0.1"));
+        }
+
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> loginService.authenticate("other", "x", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar login quando o pool está saturado - Cenário Triste")
+    void testAuthenticate_ExecutorSaturated() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new UsernamePasswordAuthenticationToken("user", null, List.of());
+        });
+        Thread first = new Thread(() -> loginService.authenticate("user1", "x", "10.0.0.1"));
+        Thread second = new Thread(() -> loginService.authenticate("user2", "x", "10.0.0.2"));
+        first.start();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        second.start();
+        while (meterRegistry.get("executor.queued").tag("name", "login").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // When & Then
+        assertThrows(LoginUnavailableException.class, () -> loginService.authenticate("user3", "x", "10.0.0.3"));
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "unavailable").timer().count());
+        release.countDown();
+        first.join();
+        second.join();
+    }
+
+    @Test
+    @DisplayName("Deve desistir do login após o timeout - Cenário Triste")
+    void testAuthenticate_Timeout() {
+        // Given
+        loginService.destroy();
+        loginService = newLoginService(1, 1, Duration.ofMillis(50));
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+
+        // When & Then
+        assertThrows(LoginUnavailableException.class, () -> loginService.authenticate("admin", "x", "10.0.0.1"));
+    }
+}
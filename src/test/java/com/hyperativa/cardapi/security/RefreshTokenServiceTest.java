@@ -0,0 +1,110 @@
+package com.hyperativa.cardapi.security;
+
+import com.hyperativa.cardapi.entity.RefreshToken;
+import com.hyperativa.cardapi.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Unit Tests")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, 60_000L);
+    }
+
+    @Test
+    @DisplayName("Deve emitir token guardando apenas o hash - Cenário Feliz")
+    void testIssue_StoresHashOnly() {
+        // When
+        String token = refreshTokenService.issue("admin");
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertEquals("admin", saved.getUsername());
+        assertEquals(RefreshTokenService.hash(token), saved.getTokenHash());
+        assertNotEquals(token, saved.getTokenHash());
+        assertTrue(saved.getExpiresAt().isAfter(LocalDateTime.now()));
+        verify(refreshTokenRepository).deleteExpiredByUsername(eq("admin"), any());
+        assertNotEquals(token, refreshTokenService.issue("admin"));
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar token ativo - Cenário Feliz")
+    void testRotate_Success() {
+        // Given
+        String hash = RefreshTokenService.hash("oldToken");
+        when(refreshTokenRepository.revokeIfActive(eq(hash), any())).thenReturn(1);
+        when(refreshTokenRepository.findByTokenHash(hash))
+                .thenReturn(Optional.of(RefreshToken.builder().tokenHash(hash).username("admin").build()));
+
+        // When
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("oldToken");
+
+        // Then
+        assertEquals("admin", rotation.username());
+        assertNotNull(rotation.refreshToken());
+        assertNotEquals("oldToken", rotation.refreshToken());
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar token desconhecido ou expirado - Cenário Triste")
+    void testRotate_Unknown() {
+        // Given
+        when(refreshTokenRepository.revokeIfActive(anyString(), any())).thenReturn(0);
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("unknown"));
+        verify(refreshTokenRepository, never()).revokeAllByUsername(anyString(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve revogar todas as sessões ao reutilizar token revogado - Cenário Triste")
+    void testRotate_ReuseRevokesAll() {
+        // Given
+        String hash = RefreshTokenService.hash("usedToken");
+        when(refreshTokenRepository.revokeIfActive(eq(hash), any())).thenReturn(0);
+        when(refreshTokenRepository.findByTokenHash(hash)).thenReturn(Optional.of(RefreshToken.builder()
+                .tokenHash(hash)
+                .username("admin")
+                .revokedAt(LocalDateTime.now().minusMinutes(1))
+                .build()));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("usedToken"));
+        verify(refreshTokenRepository).revokeAllByUsername(eq("admin"), any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar token vazio - Cenário Triste")
+    void testRotate_Blank() {
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(" "));
+        verifyNoInteractions(refreshTokenRepository);
+    }
+}
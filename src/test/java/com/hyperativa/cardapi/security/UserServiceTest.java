@@ -0,0 +1,113 @@
+package com.hyperativa.cardapi.security;
+
+import com.hyperativa.cardapi.entity.UserAccount;
+import com.hyperativa.cardapi.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService Unit Tests")
+class UserServiceTest {
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userAccountRepository, 100, Duration.ofMinutes(5));
+    }
+
+    private UserAccount account(String roles, boolean enabled) {
+        return UserAccount.builder()
+                .username("admin")
+                .passwordHash("$2a$10$hash")
+                .roles(roles)
+                .enabled(enabled)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve carregar usuário do banco com suas roles - Cenário Feliz")
+    void testLoadUserByUsername_Success() {
+        // Given
+        when(userAccountRepository.findByUsername("admin"))
+                .thenReturn(Optional.of(account("CARD_REGISTER, CARD_QUERY", true)));
+
+        // When
+        UserDetails userDetails = userService.loadUserByUsername("admin");
+
+        // Then
+        assertEquals("admin", userDetails.getUsername());
+        assertEquals("$2a$10$hash", userDetails.getPassword());
+        assertTrue(userDetails.isEnabled());
+        Set<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("ROLE_CARD_REGISTER", "ROLE_CARD_QUERY"), authorities);
+    }
+
+    @Test
+    @DisplayName("Deve servir consultas repetidas do cache - Cenário Feliz")
+    void testLoadUserByUsername_Cached() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userService.bindTo(registry);
+        when(userAccountRepository.findByUsername("admin")).thenReturn(Optional.of(account("CARD_QUERY", true)));
+
+        // When
+        UserDetails first = userService.loadUserByUsername("admin");
+        UserDetails second = userService.loadUserByUsername("admin");
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first.getPassword(), second.getPassword());
+        verify(userAccountRepository, times(1)).findByUsername("admin");
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar usuário após evict - Cenário Feliz")
+    void testEvict() {
+        // Given
+        when(userAccountRepository.findByUsername("admin"))
+                .thenReturn(Optional.of(account("CARD_QUERY", true)))
+                .thenReturn(Optional.of(account("CARD_QUERY", false)));
+        assertTrue(userService.loadUserByUsername("admin").isEnabled());
+
+        // When
+        userService.evict("admin");
+
+        // Then
+        assertFalse(userService.loadUserByUsername("admin").isEnabled());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para usuário inexistente sem guardar no cache - Cenário Triste")
+    void testLoadUserByUsername_NotFound() {
+        // Given
+        when(userAccountRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("ghost"));
+        verify(userAccountRepository, times(2)).findByUsername("ghost");
+    }
+}
@@ -0,0 +1,102 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.BatchSummaryResponse;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.entity.BatchSummary;
+import com.hyperativa.cardapi.repository.BatchSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchSummaryService Unit Tests")
+class BatchSummaryServiceTest {
+
+    @Mock
+    private BatchSummaryRepository batchSummaryRepository;
+
+    @InjectMocks
+    private BatchSummaryService batchSummaryService;
+
+    @Test
+    @DisplayName("Deve gravar contadores acumulados e zerá-los - Cenário Feliz")
+    void testFlush_Success() {
+        // Given
+        BatchCounts counts = new BatchCounts();
+        counts.record(CardRegisterResponse.builder().id(1L).alreadyExists(false).build());
+        counts.record(CardRegisterResponse.builder().id(2L).alreadyExists(true).build());
+        counts.record(CardRegisterResponse.builder().error("Card number must contain only digits").build());
+
+        // When
+        batchSummaryService.flush("LOTE0001", counts);
+
+        // Then
+        verify(batchSummaryRepository).addCounts("LOTE0001", 1, 1, 1);
+        assertTrue(counts.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter contadores quando a gravação falha - Cenário Triste")
+    void testFlush_RepositoryFailure() {
+        // Given
+        BatchCounts counts = new BatchCounts();
+        counts.reject();
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(batchSummaryRepository).addCounts(anyString(), anyLong(), anyLong(), anyLong());
+
+        // When
+        batchSummaryService.flush("LOTE0001", counts);
+
+        // Then
+        assertEquals(1, counts.getRejected());
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumo com duração do processamento - Cenário Feliz")
+    void testGetSummary_Found() {
+        // Given
+        LocalDateTime startedAt = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+        when(batchSummaryRepository.findById("LOTE0001")).thenReturn(Optional.of(BatchSummary.builder()
+                .batchNumber("LOTE0001")
+                .declaredCount(10)
+                .trailerCount(10)
+                .insertedCount(8)
+                .duplicateCount(2)
+                .startedAt(startedAt)
+                .completedAt(startedAt.plusSeconds(3))
+                .build()));
+
+        // When
+        Optional<BatchSummaryResponse> response = batchSummaryService.getSummary("LOTE0001");
+
+        // Then
+        assertTrue(response.isPresent());
+        assertEquals(10, response.get().getDeclaredCount());
+        assertEquals(8, response.get().getInsertedCount());
+        assertEquals(2, response.get().getDuplicateCount());
+        assertEquals(3000L, response.get().getDurationMillis());
+        assertFalse(response.get().isProcessing());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para lote inexistente - Cenário Triste")
+    void testGetSummary_NotFound() {
+        // Given
+        when(batchSummaryRepository.findById("NOTFOUND")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertTrue(batchSummaryService.getSummary("NOTFOUND").isEmpty());
+    }
+}
@@ -0,0 +1,218 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.CardRegisterRequest;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.entity.Card;
+import com.hyperativa.cardapi.repository.CardIdView;
+import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.repository.CardUpsertResult;
+import com.hyperativa.cardapi.sharding.ShardExecutor;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardBatchService Unit Tests")
+class CardBatchServiceTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private ShardExecutor shardExecutor;
+
+    @Mock
+    private BatchSummaryService batchSummaryService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CardBatchService cardBatchService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cardBatchService = new CardBatchService(cardRepository, encryptionService, shardExecutor,
+                batchSummaryService, transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator(), 2, 100);
+
+        lenient().when(shardExecutor.executeByShard(anyCollection(), any(), any())).thenAnswer(invocation -> {
+            Collection<Object> items = invocation.getArgument(0);
+            Function<List<Object>, List<Object>> work = invocation.getArgument(2);
+            return work.apply(new ArrayList<>(items));
+        });
+        lenient().doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(encryptionService.hashCardNumber(anyString())).thenAnswer(invocation -> "hash-" + invocation.getArgument(0));
+        lenient().when(encryptionService.encrypt(anyString())).thenAnswer(invocation -> "enc-" + invocation.getArgument(0));
+    }
+
+    private static CardRegisterRequest request(String cardNumber, Integer sequenceNumber) {
+        CardRegisterRequest request = new CardRegisterRequest();
+        request.setCardNumber(cardNumber);
+        request.setBatchNumber("LOTE0001");
+        request.setSequenceNumber(sequenceNumber);
+        return request;
+    }
+
+    private static CardIdView idView(String cardHash, Long id) {
+        return new CardIdView() {
+            @Override
+            public String getCardHash() {
+                return cardHash;
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar novos e identificar existentes com uma consulta e um insert por chunk - Cenário Feliz")
+    @SuppressWarnings("unchecked")
+    void testRegisterCards_NewAndExisting() {
+        // Given
+        List<CardRegisterRequest> requests = List.of(request("1111", 1), request("2222", 2), request("3333", 3));
+        when(cardRepository.findIdsByCardHashIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> hashes = invocation.getArgument(0);
+            return hashes.contains("hash-2222") ? List.of(idView("hash-2222", 20L)) : List.of();
+        });
+        when(cardRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Card> cards = new ArrayList<>((Collection<Card>) invocation.getArgument(0));
+            cards.forEach(card -> card.setId(Long.parseLong(card.getCardHash().substring(5))));
+            return cards;
+        });
+
+        // When
+        List<CardRegisterResponse> responses = cardBatchService.registerCards(requests);
+
+        // Then
+        assertEquals(3, responses.size());
+        assertEquals(1111L, responses.get(0).getId());
+        assertFalse(responses.get(0).getAlreadyExists());
+        assertEquals(20L, responses.get(1).getId());
+        assertTrue(responses.get(1).getAlreadyExists());
+        assertEquals(3333L, responses.get(2).getId());
+        assertEquals(3, responses.get(2).getSequenceNumber());
+        // chunk-size 2 => 2 chunks
+        verify(cardRepository, times(2)).findIdsByCardHashIn(anyCollection());
+        verify(cardRepository, times(2)).saveAll(anyCollection());
+        verify(encryptionService, never()).encrypt("2222");
+        verify(cardRepository, never()).insertIfAbsent(any());
+        verify(batchSummaryService).flush(eq("LOTE0001"), argThat(counts ->
+                counts.getInserted() == 2 && counts.getDuplicates() == 1 && counts.getRejected() == 0));
+    }
+
+    @Test
+    @DisplayName("Deve informar erro por item inválido sem rejeitar o lote - Cenário Triste")
+    void testRegisterCards_InvalidItems() {
+        // Given
+        CardRegisterRequest invalidNumber = request("12AB", 1);
+        CardRegisterRequest invalidBatch = request("4444", 2);
+        invalidBatch.setBatchNumber("LOTE000000001");
+        List<CardRegisterRequest> requests = new ArrayList<>();
+        requests.add(invalidNumber);
+        requests.add(null);
+        requests.add(invalidBatch);
+
+        // When
+        List<CardRegisterResponse> responses = cardBatchService.registerCards(requests);
+
+        // Then
+        assertEquals(3, responses.size());
+        assertEquals("Card number must contain only digits", responses.get(0).getError());
+        assertEquals("Card is required", responses.get(1).getError());
+        assertEquals("Batch number must have at most 10 characters", responses.get(2).getError());
+        responses.forEach(response -> assertNull(response.getId()));
+        verify(cardRepository, never()).findIdsByCardHashIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve tratar cartão repetido no mesmo request como já existente - Cenário Feliz")
+    @SuppressWarnings("unchecked")
+    void testRegisterCards_DuplicatedInRequest() {
+        // Given
+        List<CardRegisterRequest> requests = List.of(request("1111", 1), request("1111", 2));
+        when(cardRepository.findIdsByCardHashIn(anyCollection())).thenReturn(List.of());
+        when(cardRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Card> cards = new ArrayList<>((Collection<Card>) invocation.getArgument(0));
+            cards.forEach(card -> card.setId(7L));
+            return cards;
+        });
+
+        // When
+        List<CardRegisterResponse> responses = cardBatchService.registerCards(requests);
+
+        // Then
+        assertEquals(7L, responses.get(0).getId());
+        assertFalse(responses.get(0).getAlreadyExists());
+        assertEquals(7L, responses.get(1).getId());
+        assertTrue(responses.get(1).getAlreadyExists());
+        assertEquals(2, responses.get(1).getSequenceNumber());
+        verify(encryptionService, times(1)).encrypt("1111");
+    }
+
+    @Test
+    @DisplayName("Deve refazer itens individualmente quando há cadastro concorrente - Cenário Triste")
+    void testRegisterCards_ConcurrentInsertFallback() {
+        // Given
+        List<CardRegisterRequest> requests = List.of(request("1111", 1), request("2222", 2));
+        when(cardRepository.findIdsByCardHashIn(anyCollection())).thenReturn(List.of());
+        when(cardRepository.saveAll(anyCollection())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(cardRepository.insertIfAbsent(any(Card.class)))
+                .thenReturn(new CardUpsertResult(1L, false))
+                .thenReturn(new CardUpsertResult(2L, true));
+
+        // When
+        List<CardRegisterResponse> responses = cardBatchService.registerCards(requests);
+
+        // Then
+        assertEquals(1L, responses.get(0).getId());
+        assertTrue(responses.get(0).getAlreadyExists());
+        assertEquals(2L, responses.get(1).getId());
+        assertFalse(responses.get(1).getAlreadyExists());
+        verify(cardRepository, times(2)).insertIfAbsent(any(Card.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio ou acima do limite - Cenário Triste")
+    void testRegisterCards_InvalidSize() {
+        // Given
+        List<CardRegisterRequest> tooMany = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            tooMany.add(request(String.valueOf(1000 + i), i));
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> cardBatchService.registerCards(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> cardBatchService.registerCards(tooMany));
+        verifyNoInteractions(cardRepository);
+    }
+}
@@ -0,0 +1,152 @@
+package com.hyperativa.cardapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hyperativa.cardapi.repository.CardExportView;
+import com.hyperativa.cardapi.repository.CardRepository;
+import com.hyperativa.cardapi.sharding.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardExportService Unit Tests")
+class CardExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CardExportService cardExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cardExportService = new CardExportService(cardRepository, encryptionService, shardRouter,
+                transactionManager, objectMapper, 2, 2);
+        lenient().when(shardRouter.getShardNames()).thenReturn(List.of(ShardRouter.DEFAULT_SHARD));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cardExportService.destroy();
+    }
+
+    private static CardExportView view(long id, int sequenceNumber) {
+        return new CardExportView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEncryptedCardNumber() {
+                return "encrypted-" + id;
+            }
+
+            @Override
+            public Integer getSequenceNumber() {
+                return sequenceNumber;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED_AT;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve exportar NDJSON percorrendo páginas por keyset - Cenário Feliz")
+    void testExport_NdjsonWithKeysetPages() throws Exception {
+        // Given
+        when(cardRepository.findBatchPageAfter("LOTE0001", 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(view(10L, 1), view(20L, 2)));
+        when(cardRepository.findBatchPageAfter("LOTE0001", 20L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(view(30L, 3)));
+        when(encryptionService.decrypt(anyString()))
+                .thenAnswer(invocation -> "card-" + invocation.getArgument(0, String.class).substring(10));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = cardExportService.export("LOTE0001", CardExportService.Format.NDJSON, output);
+
+        // Then
+        assertEquals(3, exported);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"id\":10,\"cardNumber\":\"card-10\",\"sequenceNumber\":1,\"createdAt\":\"2024-01-15T10:30:00\"}", lines[0]);
+        assertTrue(lines[1].contains("\"id\":20"));
+        assertTrue(lines[2].contains("\"cardNumber\":\"card-30\""));
+        verify(cardRepository, times(2)).findBatchPageAfter(eq("LOTE0001"), anyLong(), eq(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV com cabeçalho - Cenário Feliz")
+    void testExport_Csv() throws Exception {
+        // Given
+        when(cardRepository.findBatchPageAfter("LOTE0001", 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(view(10L, 1)));
+        when(encryptionService.decrypt("encrypted-10")).thenReturn("4456897999999999");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = cardExportService.export("LOTE0001", CardExportService.Format.CSV, output);
+
+        // Then
+        assertEquals(1, exported);
+        assertEquals("id,cardNumber,sequenceNumber,createdAt\n10,4456897999999999,1,2024-01-15T10:30\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve exportar vazio para lote inexistente - Cenário Triste")
+    void testExport_EmptyBatch() throws Exception {
+        // Given
+        when(cardRepository.findBatchPageAfter("NOTFOUND", 0L, PageRequest.of(0, 2))).thenReturn(List.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = cardExportService.export("NOTFOUND", CardExportService.Format.NDJSON, output);
+
+        // Then
+        assertEquals(0, exported);
+        assertEquals(0, output.size());
+        verifyNoInteractions(encryptionService);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato desconhecido - Cenário Triste")
+    void testFormat_Unsupported() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CardExportService.Format.of("xml"));
+        assertEquals("Unsupported export format: xml", exception.getMessage());
+    }
+}
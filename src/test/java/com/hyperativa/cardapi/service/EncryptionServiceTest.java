@@ -4,6 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("EncryptionService Unit Tests")
@@ -125,5 +131,28 @@ class EncryptionServiceTest {
         assertEquals(hash1, hash2);
         assertEquals(hash2, hash3);
     }
-}
 
+    @Test
+    @DisplayName("Deve criptografar em paralelo com pool menor que o número de threads - Cenário Feliz")
+    void testEncrypt_ConcurrentWithSmallPool() throws Exception {
+        // Given
+        EncryptionService pooledService = new EncryptionService(TEST_PASSWORD, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<String>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < 200; i++) {
+                String plainText = String.format("4456897%09d", i);
+                results.add(executor.submit(() -> pooledService.decrypt(pooledService.encrypt(plainText))));
+            }
+
+            // Then
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(String.format("4456897%09d", i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
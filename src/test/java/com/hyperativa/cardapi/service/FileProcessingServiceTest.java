@@ -1,6 +1,9 @@
 package com.hyperativa.cardapi.service;
 
 import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import com.hyperativa.cardapi.tracing.StageTimings;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +12,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +30,9 @@ class FileProcessingServiceTest {
     @Mock
     private CardService cardService;
 
+    @Mock
+    private BatchSummaryService batchSummaryService;
+
     @InjectMocks
     private FileProcessingService fileProcessingService;
 
@@ -189,5 +197,70 @@ class FileProcessingServiceTest {
             future.get(5, TimeUnit.SECONDS);
         });
     }
-}
 
+    @Test
+    @DisplayName("Deve registrar resumo do lote com quantidades do header e do trailer - Cenário Feliz")
+    void testProcessFile_BatchSummary() throws Exception {
+        // Given
+        String content = "DESAFIO-HYPERATIVA           20180524LOTE0001000003\n" +
+                String.format("%-26s", "C1     4456897999999999") + "\n" +
+                String.format("%-26s", "C2     4456897922969999") + "\n" +
+                String.format("%-26s", "C3     44568979ABC") + "\n" +
+                "LOTE0001000003";
+        MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", content.getBytes());
+
+        when(cardService.registerCard(anyString(), anyString(), any()))
+                .thenReturn(CardRegisterResponse.builder().id(1L).alreadyExists(false).build())
+                .thenReturn(CardRegisterResponse.builder().id(2L).alreadyExists(true).build());
+        // Copia os contadores no momento da gravação (o objeto é reaproveitado pelo serviço)
+        List<Long> flushed = new ArrayList<>();
+        doAnswer(invocation -> {
+            BatchCounts counts = invocation.getArgument(1);
+            flushed.addAll(List.of(counts.getInserted(), counts.getDuplicates(), counts.getRejected()));
+            return null;
+        }).when(batchSummaryService).flush(eq("LOTE0001"), any(BatchCounts.class));
+
+        // When
+        fileProcessingService.processFile(file).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(batchSummaryService).startBatch("LOTE0001", 3);
+        assertEquals(List.of(1L, 1L, 1L), flushed);
+        verify(batchSummaryService).completeBatch("LOTE0001", 3);
+    }
+
+    @Test
+    @DisplayName("Deve criar span do job e um span por chunk de cartões - Cenário Feliz")
+    void testProcessFile_TracingSpans() throws Exception {
+        // Given
+        SimpleTracer tracer = new SimpleTracer();
+        ReflectionTestUtils.setField(fileProcessingService, "tracer", tracer);
+        ReflectionTestUtils.setField(fileProcessingService, "summaryFlushInterval", 2);
+        String content = "DESAFIO-HYPERATIVA           20180524LOTE0001000003\n" +
+                String.format("%-26s", "C1     4456897999999999") + "\n" +
+                String.format("%-26s", "C2     4456897922969999") + "\n" +
+                String.format("%-26s", "C3     4456897922961111") + "\n" +
+                "LOTE0001000003";
+        MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", content.getBytes());
+
+        when(cardService.registerCard(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> StageTimings.time("card.persist",
+                        () -> CardRegisterResponse.builder().id(1L).alreadyExists(false).build()));
+
+        // When
+        fileProcessingService.processFile(file).get(5, TimeUnit.SECONDS);
+
+        // Then
+        List<String> names = tracer.getSpans().stream().map(SimpleSpan::getName).toList();
+        assertEquals(List.of("card.file.process", "card.file.chunk", "card.file.chunk"), names);
+        List<String> chunkSizes = tracer.getSpans().stream()
+                .filter(span -> span.getName().equals("card.file.chunk"))
+                .map(span -> span.getTags().get("cards"))
+                .toList();
+        assertEquals(List.of("2", "1"), chunkSizes);
+        assertTrue(tracer.getSpans().stream()
+                .filter(span -> span.getName().equals("card.file.chunk"))
+                .allMatch(span -> span.getTags().containsKey("card.persist.ms")));
+        assertTrue(tracer.getSpans().stream().allMatch(span -> span.getEndTimestamp().toEpochMilli() > 0));
+    }
+}
@@ -0,0 +1,136 @@
+package com.hyperativa.cardapi.service;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.hyperativa.cardapi.dto.CardRegisterResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IngestionProgress Unit Tests")
+class IngestionProgressTest {
+
+    private final Logger progressLogger = (Logger) LoggerFactory.getLogger("ingestion");
+    private final Logger rejectLogger = (Logger) LoggerFactory.getLogger("ingestion.rejects");
+
+    private ListAppender<ILoggingEvent> progressAppender;
+    private ListAppender<ILoggingEvent> rejectAppender;
+    private final AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        progressAppender = new ListAppender<>();
+        progressAppender.start();
+        progressLogger.addAppender(progressAppender);
+        rejectAppender = new ListAppender<>();
+        rejectAppender.start();
+        rejectLogger.addAppender(rejectAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        progressLogger.detachAppender(progressAppender);
+        rejectLogger.detachAppender(rejectAppender);
+    }
+
+    private static CardRegisterResponse inserted() {
+        return CardRegisterResponse.builder().id(1L).alreadyExists(false).build();
+    }
+
+    private long countMessages(String prefix) {
+        return progressAppender.list.stream()
+                .filter(event -> event.getFormattedMessage().startsWith(prefix))
+                .count();
+    }
+
+    @Test
+    @DisplayName("Deve emitir progresso a cada N linhas em vez de uma linha por cartão - Cenário Feliz")
+    void testRecord_EmitsProgressEveryLines() {
+        // Given
+        IngestionProgress progress = new IngestionProgress("cards.txt", 100, Duration.ofHours(1), clock::get);
+        progress.startBatch("LOTE0001", 250);
+
+        // When
+        for (int i = 0; i < 250; i++) {
+            progress.record(inserted());
+        }
+
+        // Then
+        assertEquals(2, countMessages("Ingestion progress"));
+        assertEquals(250, progress.getFileCounts().getInserted());
+    }
+
+    @Test
+    @DisplayName("Deve emitir progresso quando o intervalo passar - Cenário Feliz")
+    void testRecord_EmitsProgressOnInterval() {
+        // Given
+        IngestionProgress progress = new IngestionProgress("cards.txt", 10_000, Duration.ofSeconds(10), clock::get);
+
+        // When
+        progress.record(inserted());
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        progress.record(inserted());
+
+        // Then
+        assertEquals(1, countMessages("Ingestion progress"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar resumo por lote e do arquivo - Cenário Feliz")
+    void testFinish_LogsSummaries() {
+        // Given
+        IngestionProgress progress = new IngestionProgress("cards.txt", 10_000, Duration.ofHours(1), clock::get);
+        progress.startBatch("LOTE0001", 2);
+        progress.record(inserted());
+        progress.record(CardRegisterResponse.builder().id(2L).alreadyExists(true).build());
+        progress.finishBatch(2);
+
+        // When
+        progress.finish();
+
+        // Then
+        assertEquals(1, countMessages("Batch summary"));
+        String summary = progressAppender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(message -> message.startsWith("Batch summary"))
+                .findFirst().orElseThrow();
+        assertTrue(summary.contains("inserted=1"));
+        assertTrue(summary.contains("duplicates=1"));
+        assertTrue(summary.contains("trailerCount=2"));
+        assertEquals(1, countMessages("File processed"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar rejeições ao canal próprio com o PAN mascarado - Cenário Triste")
+    void testReject_MasksCardNumber() {
+        // Given
+        IngestionProgress progress = new IngestionProgress("cards.txt", 10_000, Duration.ofHours(1), clock::get);
+
+        // When
+        progress.reject(7, "4456897999999999", "DataAccessException: connection refused");
+
+        // Then
+        assertEquals(1, rejectAppender.list.size());
+        String message = rejectAppender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("card=445689******9999"));
+        assertFalse(message.contains("4456897999999999"));
+        assertEquals(1, progress.getFileCounts().getRejected());
+    }
+
+    @Test
+    @DisplayName("Deve mascarar PANs e valores inválidos - Cenário Feliz")
+    void testMaskPan() {
+        assertEquals("445689******9999", IngestionProgress.maskPan("4456897999999999"));
+        assertEquals("*******9ABC", IngestionProgress.maskPan("44568979ABC"));
+        assertEquals("***", IngestionProgress.maskPan("123"));
+        assertEquals("", IngestionProgress.maskPan(null));
+    }
+}
@@ -0,0 +1,69 @@
+package com.hyperativa.cardapi.service;
+
+import com.hyperativa.cardapi.dto.CardCheckResponse;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveCardService Unit Tests")
+class ReactiveCardServiceTest {
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    private ReactiveCardService reactiveCardService;
+
+    @BeforeEach
+    void setUp() {
+        // H2 em memória via R2DBC no lugar do MySQL
+        DatabaseClient databaseClient = DatabaseClient.create(H2ConnectionFactory.inMemory("reactive-card-test"));
+        databaseClient.sql("CREATE TABLE IF NOT EXISTS cards (id BIGINT PRIMARY KEY, card_hash VARCHAR(64) NOT NULL UNIQUE)")
+                .then()
+                .block();
+        databaseClient.sql("MERGE INTO cards (id, card_hash) KEY (id) VALUES (1, 'hash123456789')")
+                .then()
+                .block();
+        reactiveCardService = new ReactiveCardService(databaseClient, encryptionService);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar cartão na consulta reativa - Cenário Feliz")
+    void testCheckCard_Exists() {
+        // Given
+        when(encryptionService.hashCardNumber("4456897999999999")).thenReturn("hash123456789");
+
+        // When
+        CardCheckResponse response = reactiveCardService.checkCard("4456897999999999").block();
+
+        // Then
+        assertNotNull(response);
+        assertTrue(response.isExists());
+        assertEquals(1L, response.getCardId());
+        assertEquals("Card found", response.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar cartão na consulta reativa - Cenário Triste")
+    void testCheckCard_NotExists() {
+        // Given
+        when(encryptionService.hashCardNumber("4456897922969999")).thenReturn("otherhash");
+
+        // When
+        CardCheckResponse response = reactiveCardService.checkCard("4456897922969999").block();
+
+        // Then
+        assertNotNull(response);
+        assertFalse(response.isExists());
+        assertNull(response.getCardId());
+        assertEquals("Card not found", response.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+package com.hyperativa.cardapi.sharding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardDataSources Unit Tests")
+class ShardDataSourcesTest {
+
+    private static ShardingProperties.Shard shard(String name) {
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setName(name);
+        shard.setUrl("jdbc:h2:mem:" + name);
+        shard.setUsername("sa");
+        shard.setPassword("");
+        return shard;
+    }
+
+    @Test
+    @DisplayName("Deve publicar métricas hikaricp de cada shard - Cenário Feliz")
+    void testBindTo_RegistersPoolMetricsPerShard() throws Exception {
+        // Given
+        ShardingProperties properties = new ShardingProperties();
+        properties.setShards(List.of(shard("metrics0"), shard("metrics1")));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (ShardDataSources dataSources = new ShardDataSources(properties, "org.h2.Driver")) {
+            // When
+            dataSources.bindTo(registry);
+            try (Connection connection = dataSources.get("metrics1").getConnection()) {
+
+                // Then
+                assertTrue(connection.isValid(1));
+                assertEquals(1.0, registry.get("hikaricp.connections.active").tag("pool", "metrics1").gauge().value());
+            }
+            // Pool ainda não iniciado (nenhuma conexão pedida) só publica métricas ao iniciar
+            assertNull(registry.find("hikaricp.connections.active").tag("pool", "metrics0").gauge());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve exigir ao menos um shard - Cenário Triste")
+    void testConstructor_NoShards() {
+        assertThrows(IllegalStateException.class, () -> new ShardDataSources(new ShardingProperties(), "org.h2.Driver"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.hyperativa.cardapi.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardRouter Unit Tests")
+class ShardRouterTest {
+
+    private static ShardingProperties.Shard shard(String name, int from, int to) {
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setName(name);
+        shard.setFrom(from);
+        shard.setTo(to);
+        return shard;
+    }
+
+    private static ShardingProperties properties(int prefixBits, ShardingProperties.Shard... shards) {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setPrefixBits(prefixBits);
+        properties.setShards(List.of(shards));
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Deve escolher o shard pelos bits iniciais do hash - Cenário Feliz")
+    void testShardFor_UsesLeadingBits() {
+        // Given
+        ShardRouter router = new ShardRouter(properties(2,
+                shard("shard0", 0, 1), shard("shard1", 2, 2), shard("shard2", 3, 3)));
+
+        // When & Then
+        assertEquals(0, router.slotOf("0fff" + "a".repeat(60)));
+        assertEquals(3, router.slotOf("ffff" + "a".repeat(60)));
+        assertEquals("shard0", router.shardFor("3fff" + "a".repeat(60)));
+        assertEquals("shard0", router.shardFor("7000" + "a".repeat(60)));
+        assertEquals("shard1", router.shardFor("8000" + "a".repeat(60)));
+        assertEquals("shard2", router.shardFor("c000" + "a".repeat(60)));
+        assertEquals("c000", router.hashLowerBound(3));
+    }
+
+    @Test
+    @DisplayName("Deve usar shard único quando sharding está desativado - Cenário Feliz")
+    void testShardFor_Disabled() {
+        // Given
+        ShardRouter router = new ShardRouter(new ShardingProperties());
+
+        // When & Then
+        assertFalse(router.isSharded());
+        assertEquals(ShardRouter.DEFAULT_SHARD, router.shardFor("ffff" + "a".repeat(60)));
+        assertEquals(List.of(ShardRouter.DEFAULT_SHARD), router.getShardNames());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar itens por shard - Cenário Feliz")
+    void testPartition() {
+        // Given
+        ShardRouter router = new ShardRouter(properties(1, shard("low", 0, 0), shard("high", 1, 1)));
+        List<String> hashes = List.of("0aaa", "faaa", "1aaa", "8aaa");
+
+        // When
+        Map<String, List<String>> byShard = router.partition(hashes, hash -> hash);
+
+        // Then
+        assertEquals(List.of("0aaa", "1aaa"), byShard.get("low"));
+        assertEquals(List.of("faaa", "8aaa"), byShard.get("high"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar faixas com slots sem shard - Cenário Triste")
+    void testConstructor_UncoveredSlots() {
+        // Given
+        ShardingProperties properties = properties(2, shard("shard0", 0, 1), shard("shard1", 3, 3));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> new ShardRouter(properties));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar faixas sobrepostas - Cenário Triste")
+    void testConstructor_OverlappingRanges() {
+        // Given
+        ShardingProperties properties = properties(1, shard("shard0", 0, 1), shard("shard1", 1, 1));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> new ShardRouter(properties));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar shard sem faixa, que não recebe cartões - Cenário Feliz")
+    void testConstructor_ShardWithoutSlots() {
+        // Given
+        ShardingProperties.Shard spare = new ShardingProperties.Shard();
+        spare.setName("shard2");
+
+        // When
+        ShardRouter router = new ShardRouter(properties(1, shard("shard0", 0, 0), shard("shard1", 1, 1), spare));
+
+        // Then
+        assertEquals(List.of("shard0", "shard1", "shard2"), router.getShardNames());
+        assertEquals("shard0", router.shardFor("0aaa"));
+        assertEquals("shard1", router.shardFor("faaa"));
+    }
+}
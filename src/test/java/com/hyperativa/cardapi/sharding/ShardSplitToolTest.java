@@ -0,0 +1,150 @@
+package com.hyperativa.cardapi.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardSplitTool Tests")
+class ShardSplitToolTest {
+
+    private ShardingProperties properties;
+    private ShardDataSources shardDataSources;
+
+    @BeforeEach
+    void setUp() {
+        // 4 slots: shard0 atende 0-1, shard1 atende 2-3 e shard2 ainda não tem faixa
+        ShardingProperties.Shard spare = shard("shard2");
+        ShardingProperties.Shard shard0 = shard("shard0");
+        shard0.setFrom(0);
+        shard0.setTo(1);
+        ShardingProperties.Shard shard1 = shard("shard1");
+        shard1.setFrom(2);
+        shard1.setTo(3);
+
+        properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setPrefixBits(2);
+        properties.setShards(List.of(shard0, shard1, spare));
+        shardDataSources = new ShardDataSources(properties, "org.h2.Driver");
+        for (String shard : List.of("shard0", "shard1", "shard2")) {
+            jdbc(shard).execute("CREATE TABLE cards (" +
+                    "id BIGINT NOT NULL, batch_number VARCHAR(10), card_hash VARCHAR(64) NOT NULL, " +
+                    "created_at TIMESTAMP(6) NOT NULL, encrypted_card_number VARCHAR(512) NOT NULL, " +
+                    "sequence_number INT, updated_at TIMESTAMP(6) NOT NULL, " +
+                    "PRIMARY KEY (id), CONSTRAINT uk_cards_card_hash UNIQUE (card_hash))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String shard : List.of("shard0", "shard1", "shard2")) {
+            jdbc(shard).execute("DROP TABLE cards");
+        }
+        shardDataSources.close();
+    }
+
+    private static ShardingProperties.Shard shard(String name) {
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setName(name);
+        shard.setUrl("jdbc:h2:mem:split-" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        shard.setUsername("sa");
+        shard.setPassword("");
+        return shard;
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(shardDataSources.get(shard));
+    }
+
+    private void insert(String shard, long id, String hashPrefix) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc(shard).update("INSERT INTO cards (id, card_hash, created_at, encrypted_card_number, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)", id, hashPrefix + "a".repeat(60), now, "enc-" + id, now);
+    }
+
+    private long count(String shard) {
+        return jdbc(shard).queryForObject("SELECT COUNT(*) FROM cards", Long.class);
+    }
+
+    private ShardSplitTool tool(String source, String target, int at) {
+        ShardSplitTool tool = new ShardSplitTool(properties, new ShardRouter(properties), shardDataSources, null);
+        ReflectionTestUtils.setField(tool, "sourceShard", source);
+        ReflectionTestUtils.setField(tool, "targetShard", target);
+        ReflectionTestUtils.setField(tool, "splitSlot", at);
+        ReflectionTestUtils.setField(tool, "batchSize", 2);
+        return tool;
+    }
+
+    @Test
+    @DisplayName("Deve mover os slots a partir do ponto de split para o shard sem faixa - Cenário Feliz")
+    void testSplit_MovesUpperSlotsToShardWithoutSlots() {
+        // Given
+        insert("shard0", 1, "0001");
+        insert("shard0", 2, "3fff");
+        insert("shard0", 3, "4000");
+        insert("shard0", 4, "5aaa");
+        insert("shard0", 5, "6bbb");
+        insert("shard0", 6, "7fff");
+        insert("shard0", 7, "7000");
+
+        // When
+        long moved = tool("shard0", "shard2", 1).split();
+
+        // Then
+        assertEquals(5, moved);
+        assertEquals(List.of(1L, 2L), jdbc("shard0").queryForList("SELECT id FROM cards ORDER BY id", Long.class));
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), jdbc("shard2").queryForList("SELECT id FROM cards ORDER BY id", Long.class));
+        assertEquals("enc-4", jdbc("shard2").queryForObject("SELECT encrypted_card_number FROM cards WHERE id = 4", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar como destino o shard com a faixa seguinte à da origem - Cenário Feliz")
+    void testSplit_IntoAdjacentShard() {
+        // Given
+        insert("shard0", 1, "4000");
+        insert("shard1", 2, "8000");
+
+        // When
+        long moved = tool("shard0", "shard1", 1).split();
+
+        // Then
+        assertEquals(1, moved);
+        assertEquals(0, count("shard0"));
+        assertEquals(2, count("shard1"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar destino cuja faixa não é contígua à faixa movida - Cenário Triste")
+    void testSplit_NonAdjacentTarget() {
+        // Given
+        insert("shard1", 1, "c000");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> tool("shard1", "shard0", 3).split());
+        assertEquals(1, count("shard1"));
+        assertEquals(0, count("shard0"));
+    }
+
+    @Test
+    @DisplayName("Deve manter na origem a página não confirmada no destino - Cenário Triste")
+    void testSplit_KeepsRowsNotCopied() {
+        // Given
+        insert("shard0", 1, "4000");
+        insert("shard0", 2, "5000");
+        // O id 2 já existe no destino com outro cartão: o INSERT IGNORE descarta a linha
+        insert("shard2", 2, "6000");
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> tool("shard0", "shard2", 1).split());
+        assertEquals(2, count("shard0"));
+    }
+}
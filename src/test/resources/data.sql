@@ -0,0 +1,5 @@
+-- Usuários padrão (mesmos da migração V4), já que no H2 o Flyway fica desligado
+INSERT INTO users (username, password_hash, roles, enabled, created_at) VALUES
+    ('admin', '$2a$10$MXQ/JBhfUk4sKcEVqiZGr.Qu7zuuBweRpZKykeDBAIXdEQBsiEiC.', 'CARD_REGISTER,CARD_QUERY,CARD_EXPORT', TRUE, CURRENT_TIMESTAMP),
+    ('register', '$2a$10$RZ9ZtklDzlcLTE97M9q9BeuvkU51tBTdl.KxukjmGBN/iWDnOldta', 'CARD_REGISTER', TRUE, CURRENT_TIMESTAMP),
+    ('query', '$2a$10$3LBTVtCZGAh5mjE9mAwB6eKx96k9b84aZgoFSygP5MPv7D1uv5aL.', 'CARD_QUERY', TRUE, CURRENT_TIMESTAMP);